@@ -0,0 +1,27 @@
+/**
+ * Decides how an array-backed list resizes its storage: how far to grow
+ * when the array is full and whether to give memory back after removals.
+ * 
+ * @see IUArrayList
+ * @see ScalingCapacityPolicy
+ */
+public interface CapacityPolicy {
+	/** Doubles when full and never shrinks, the original IUArrayList behavior */
+	public static final CapacityPolicy DOUBLING = new ScalingCapacityPolicy(2.0, Integer.MAX_VALUE, 0.0);
+
+	/**
+	 * Returns the capacity to grow to
+	 * @param capacity current array length
+	 * @param required smallest capacity that will fit the pending elements
+	 * @return new capacity, at least required
+	 */
+	public int grow(int capacity, int required);
+
+	/**
+	 * Returns the capacity to shrink to after a removal
+	 * @param capacity current array length
+	 * @param size number of elements left in the list
+	 * @return new capacity, at least size, or capacity to keep the current array
+	 */
+	public int shrink(int capacity, int size);
+}
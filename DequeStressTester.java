@@ -0,0 +1,435 @@
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Multi-threaded stress test for LockFreeDeque, run like ListTester.
+ * Sequential black box tests can't catch races, so each test here runs
+ * many threads against one deque and checks a property that any
+ * linearizable deque must keep:
+ *  - conservation: every element added is removed exactly once
+ *  - FIFO order: one consumer sees each producer's elements in the order
+ *    they were added when producers and consumers use opposite ends
+ *  - linearizability: for many short random histories, the recorded
+ *    calls and results can be explained by some sequential order of
+ *    the operations that respects real time
+ *
+ * @see LockFreeDeque
+ */
+public class DequeStressTester {
+	private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+	private static final int ELEMENTS_PER_PRODUCER = 200000;
+	private static final int HISTORIES = 2000;
+	private static final int HISTORY_THREADS = 3;
+	private static final int OPS_PER_THREAD = 4;
+	private static final long THROUGHPUT_MILLIS = 500;
+
+	//tracking number of tests and test results
+	private int passes = 0;
+	private int failures = 0;
+	private int totalRun = 0;
+
+	//control output - modified by command-line args
+	private boolean showThroughput = false;
+
+	/**
+	 * Valid command line args include:
+	 *  -t : also print add/remove throughput for 1, 2, 4, ... threads
+	 * @param args command line args
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		DequeStressTester tester = new DequeStressTester(args);
+		tester.runTests();
+	}
+
+	/** tester constructor
+	 * @param args command line args
+	 */
+	public DequeStressTester(String[] args) {
+		for (String arg : args) {
+			if (arg.equalsIgnoreCase("-t"))
+				showThroughput = true;
+		}
+	}
+
+	/** Print test results in a consistent format
+	 * @param testDesc description of the test
+	 * @param result indicates if the test passed or failed
+	 */
+	private void printTest(String testDesc, boolean result) {
+		totalRun++;
+		if (result) { passes++; }
+		else { failures++; }
+		System.out.printf("%-46s\t%s\n", testDesc, (result ? "   PASS" : "***FAIL***"));
+	}
+
+	/** Print a final summary */
+	private void printFinalSummary() {
+		String verdict = String.format("\nTotal Tests Run: %d,  Passed: %d (%.1f%%),  Failed: %d\n",
+				totalRun, passes, passes*100.0/totalRun, failures);
+		String line = "";
+		for (int i = 0; i < verdict.length(); i++) {
+			line += "-";
+		}
+		System.out.println(line);
+		System.out.println(verdict);
+	}
+
+	/** Run all tests */
+	private void runTests() throws InterruptedException {
+		System.out.println("Stress testing LockFreeDeque with " + THREADS + " threads\n");
+		printTest("conservation, producers at both ends", testConservation());
+		printTest("FIFO order, addToRear -> removeFirst", testFifoOrder(true));
+		printTest("FIFO order, addToFront -> removeLast", testFifoOrder(false));
+		printTest("linearizable histories (" + HISTORIES + ")", testLinearizable());
+		if (showThroughput) {
+			printThroughput();
+		}
+		printFinalSummary();
+	}
+
+	/**
+	 * Runs every task on its own thread, starting them together
+	 * @param tasks work for each thread
+	 */
+	private static void runTogether(List<Runnable> tasks) throws InterruptedException {
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> threads = new ArrayList<Thread>();
+		for (Runnable task : tasks) {
+			Thread thread = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				task.run();
+			});
+			thread.start();
+			threads.add(thread);
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+	}
+
+	/**
+	 * Half the threads add unique elements at random ends, the other half
+	 * remove from random ends until the producers are done and the deque is
+	 * drained. Every element must be removed exactly once.
+	 */
+	private boolean testConservation() throws InterruptedException {
+		LockFreeDeque<Integer> deque = new LockFreeDeque<Integer>();
+		int producers = THREADS / 2;
+		int consumers = THREADS - producers;
+		int total = producers * ELEMENTS_PER_PRODUCER;
+		int[] removed = new int[total];
+		AtomicBoolean producing = new AtomicBoolean(true);
+		AtomicLong producersLeft = new AtomicLong(producers);
+		List<int[]> seenByConsumer = new ArrayList<int[]>();
+		List<Runnable> tasks = new ArrayList<Runnable>();
+
+		for (int p = 0; p < producers; p++) {
+			int base = p * ELEMENTS_PER_PRODUCER;
+			tasks.add(() -> {
+				Random random = new Random(base);
+				for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+					if (random.nextBoolean()) {
+						deque.addToFront(base + i);
+					} else {
+						deque.addToRear(base + i);
+					}
+				}
+				if (producersLeft.decrementAndGet() == 0) {
+					producing.set(false);
+				}
+			});
+		}
+		for (int c = 0; c < consumers; c++) {
+			int[] seen = new int[total];
+			seenByConsumer.add(seen);
+			int seed = c;
+			tasks.add(() -> {
+				Random random = new Random(seed);
+				while (true) {
+					// read the flag first so a drained deque really is final
+					boolean done = !producing.get();
+					Integer element = random.nextBoolean() ? deque.pollFirst() : deque.pollLast();
+					if (element != null) {
+						seen[element]++;
+					} else if (done) {
+						return;
+					}
+				}
+			});
+		}
+		runTogether(tasks);
+
+		for (int[] seen : seenByConsumer) {
+			for (int i = 0; i < total; i++) {
+				removed[i] += seen[i];
+			}
+		}
+		for (int i = 0; i < total; i++) {
+			if (removed[i] != 1) {
+				System.out.println("  element " + i + " removed " + removed[i] + " times");
+				return false;
+			}
+		}
+		return deque.isEmpty();
+	}
+
+	/**
+	 * Producers add (producer, sequence) pairs at one end while consumers
+	 * remove from the other end. Each consumer must see every producer's
+	 * sequence numbers in increasing order.
+	 * @param toRear true to add at the rear and remove from the front
+	 */
+	private boolean testFifoOrder(boolean toRear) throws InterruptedException {
+		LockFreeDeque<Long> deque = new LockFreeDeque<Long>();
+		int producers = THREADS / 2;
+		int consumers = THREADS - producers;
+		AtomicBoolean producing = new AtomicBoolean(true);
+		AtomicLong producersLeft = new AtomicLong(producers);
+		AtomicLong consumed = new AtomicLong();
+		AtomicBoolean inOrder = new AtomicBoolean(true);
+		List<Runnable> tasks = new ArrayList<Runnable>();
+
+		for (int p = 0; p < producers; p++) {
+			long producer = p;
+			tasks.add(() -> {
+				for (long i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+					long element = (producer << 32) | i;
+					if (toRear) {
+						deque.addToRear(element);
+					} else {
+						deque.addToFront(element);
+					}
+				}
+				if (producersLeft.decrementAndGet() == 0) {
+					producing.set(false);
+				}
+			});
+		}
+		for (int c = 0; c < consumers; c++) {
+			tasks.add(() -> {
+				long[] lastSeen = new long[producers];
+				Arrays.fill(lastSeen, -1);
+				while (true) {
+					boolean done = !producing.get();
+					Long element = toRear ? deque.pollFirst() : deque.pollLast();
+					if (element != null) {
+						int producer = (int)(element >>> 32);
+						long sequence = element & 0xFFFFFFFFL;
+						if (sequence <= lastSeen[producer]) {
+							inOrder.set(false);
+						}
+						lastSeen[producer] = sequence;
+						consumed.incrementAndGet();
+					} else if (done) {
+						return;
+					}
+				}
+			});
+		}
+		runTogether(tasks);
+
+		return inOrder.get() && consumed.get() == (long)producers * ELEMENTS_PER_PRODUCER;
+	}
+
+	/**
+	 * Runs many short histories of random operations from a few threads,
+	 * recording when each call started and returned, and checks each
+	 * history against a sequential ArrayDeque.
+	 */
+	private boolean testLinearizable() throws InterruptedException {
+		Random random = new Random(16);
+		for (int h = 0; h < HISTORIES; h++) {
+			LockFreeDeque<Integer> deque = new LockFreeDeque<Integer>();
+			// start some histories non-empty so removes from both ends race
+			int preloaded = random.nextInt(3);
+			ArrayDeque<Integer> initial = new ArrayDeque<Integer>();
+			for (int i = 0; i < preloaded; i++) {
+				deque.addToRear(-1 - i);
+				initial.addLast(-1 - i);
+			}
+
+			Op[] history = new Op[HISTORY_THREADS * OPS_PER_THREAD];
+			List<Runnable> tasks = new ArrayList<Runnable>();
+			for (int t = 0; t < HISTORY_THREADS; t++) {
+				int first = t * OPS_PER_THREAD;
+				for (int i = 0; i < OPS_PER_THREAD; i++) {
+					history[first + i] = new Op(random.nextInt(Op.KINDS), first + i);
+				}
+				tasks.add(() -> {
+					for (int i = first; i < first + OPS_PER_THREAD; i++) {
+						history[i].run(deque);
+					}
+				});
+			}
+			runTogether(tasks);
+
+			if (!linearize(history, new boolean[history.length], initial)) {
+				System.out.println("  not linearizable: " + Arrays.toString(history));
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Searches for a sequential order of the remaining operations that
+	 * respects real time and reproduces every recorded result
+	 * @param history all operations
+	 * @param done operations already placed in the order
+	 * @param model sequential deque state after the placed operations
+	 * @return true if such an order exists
+	 */
+	private static boolean linearize(Op[] history, boolean[] done, ArrayDeque<Integer> model) {
+		long earliestEnd = Long.MAX_VALUE;
+		boolean remaining = false;
+		for (int i = 0; i < history.length; i++) {
+			if (!done[i]) {
+				remaining = true;
+				earliestEnd = Math.min(earliestEnd, history[i].end);
+			}
+		}
+		if (!remaining) {
+			return true;
+		}
+
+		for (int i = 0; i < history.length; i++) {
+			// an operation can go next only if no pending operation returned before it started
+			if (!done[i] && history[i].start <= earliestEnd) {
+				ArrayDeque<Integer> next = model.clone();
+				if (history[i].replay(next)) {
+					done[i] = true;
+					if (linearize(history, done, next)) {
+						return true;
+					}
+					done[i] = false;
+				}
+			}
+		}
+		return false;
+	}
+
+	/** Measures combined add/remove throughput for increasing thread counts */
+	private void printThroughput() throws InterruptedException {
+		System.out.println("\nthreads\tops/ms");
+		for (int threads = 1; threads <= THREADS; threads *= 2) {
+			LockFreeDeque<Integer> deque = new LockFreeDeque<Integer>();
+			AtomicLong ops = new AtomicLong();
+			long stopAt = System.currentTimeMillis() + THROUGHPUT_MILLIS;
+			List<Runnable> tasks = new ArrayList<Runnable>();
+			for (int t = 0; t < threads; t++) {
+				int seed = t;
+				tasks.add(() -> {
+					Random random = new Random(seed);
+					long count = 0;
+					while (System.currentTimeMillis() < stopAt) {
+						for (int i = 0; i < 1000; i++) {
+							if (random.nextBoolean()) {
+								deque.addToRear(i);
+								deque.pollFirst();
+							} else {
+								deque.addToFront(i);
+								deque.pollLast();
+							}
+						}
+						count += 2000;
+					}
+					ops.addAndGet(count);
+				});
+			}
+			runTogether(tasks);
+			System.out.printf("%d\t%d\n", threads, ops.get() / THROUGHPUT_MILLIS);
+		}
+		System.out.println();
+	}
+
+	/**
+	 * One recorded deque call: what was called, with what, what it
+	 * returned, and when it started and returned
+	 */
+	private static class Op {
+		private static final int ADD_TO_FRONT = 0, ADD_TO_REAR = 1, POLL_FIRST = 2,
+				POLL_LAST = 3, FIRST = 4, LAST = 5, KINDS = 6;
+		private static final String[] NAMES = { "addToFront", "addToRear", "pollFirst",
+				"pollLast", "first", "last" };
+
+		private final int kind;
+		private final int value; // element added, unique within a history
+		private Integer result; // element returned, null for adds or an empty deque
+		private long start, end;
+
+		private Op(int kind, int value) {
+			this.kind = kind;
+			this.value = value;
+		}
+
+		/** Calls the operation on the real deque, recording its result and timing */
+		private void run(LockFreeDeque<Integer> deque) {
+			start = System.nanoTime();
+			switch (kind) {
+			case ADD_TO_FRONT:
+				deque.addToFront(value);
+				break;
+			case ADD_TO_REAR:
+				deque.addToRear(value);
+				break;
+			case POLL_FIRST:
+				result = deque.pollFirst();
+				break;
+			case POLL_LAST:
+				result = deque.pollLast();
+				break;
+			case FIRST:
+				try {
+					result = deque.first();
+				} catch (NoSuchElementException e) {
+					result = null;
+				}
+				break;
+			default:
+				try {
+					result = deque.last();
+				} catch (NoSuchElementException e) {
+					result = null;
+				}
+			}
+			end = System.nanoTime();
+		}
+
+		/**
+		 * Applies the operation to the sequential model
+		 * @param model sequential deque, modified in place
+		 * @return true if the model gives the recorded result
+		 */
+		private boolean replay(ArrayDeque<Integer> model) {
+			switch (kind) {
+			case ADD_TO_FRONT:
+				model.addFirst(value);
+				return true;
+			case ADD_TO_REAR:
+				model.addLast(value);
+				return true;
+			case POLL_FIRST:
+				return Objects.equals(result, model.pollFirst());
+			case POLL_LAST:
+				return Objects.equals(result, model.pollLast());
+			case FIRST:
+				return Objects.equals(result, model.peekFirst());
+			default:
+				return Objects.equals(result, model.peekLast());
+			}
+		}
+
+		@Override
+		public String toString() {
+			return NAMES[kind] + (kind <= ADD_TO_REAR ? "(" + value + ")" : "=" + result);
+		}
+	}
+}
@@ -0,0 +1,86 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Converts elements to and from a fixed number of bytes so they can be
+ * stored in a flat, file-backed array such as MappedIUArrayList.
+ *
+ * @see MappedIUArrayList
+ *
+ * @param <E> type to encode
+ */
+public interface FixedWidthCodec<E> {
+	/** Stores Integers as 4 big-endian bytes */
+	public static final FixedWidthCodec<Integer> INTEGER = new FixedWidthCodec<Integer>() {
+		@Override
+		public int width() {
+			return Integer.BYTES;
+		}
+
+		@Override
+		public void encode(Integer element, ByteBuffer buffer, int offset) {
+			buffer.putInt(offset, element);
+		}
+
+		@Override
+		public Integer decode(ByteBuffer buffer, int offset) {
+			return buffer.getInt(offset);
+		}
+	};
+
+	/** Stores Longs as 8 big-endian bytes */
+	public static final FixedWidthCodec<Long> LONG = new FixedWidthCodec<Long>() {
+		@Override
+		public int width() {
+			return Long.BYTES;
+		}
+
+		@Override
+		public void encode(Long element, ByteBuffer buffer, int offset) {
+			buffer.putLong(offset, element);
+		}
+
+		@Override
+		public Long decode(ByteBuffer buffer, int offset) {
+			return buffer.getLong(offset);
+		}
+	};
+
+	/** Stores Doubles as their 8-byte IEEE 754 bit pattern */
+	public static final FixedWidthCodec<Double> DOUBLE = new FixedWidthCodec<Double>() {
+		@Override
+		public int width() {
+			return Double.BYTES;
+		}
+
+		@Override
+		public void encode(Double element, ByteBuffer buffer, int offset) {
+			buffer.putDouble(offset, element);
+		}
+
+		@Override
+		public Double decode(ByteBuffer buffer, int offset) {
+			return buffer.getDouble(offset);
+		}
+	};
+
+	/**
+	 * @return number of bytes every encoded element occupies, at least 1
+	 */
+	public int width();
+
+	/**
+	 * Writes element into buffer using exactly width() bytes
+	 * @param element value to store, never null
+	 * @param buffer destination
+	 * @param offset absolute position in buffer of the first byte
+	 */
+	public void encode(E element, ByteBuffer buffer, int offset);
+
+	/**
+	 * Reads an element previously written by encode
+	 * @param buffer source
+	 * @param offset absolute position in buffer of the first byte
+	 * @return the decoded element
+	 */
+	public E decode(ByteBuffer buffer, int offset);
+}
@@ -1,19 +1,41 @@
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Array-based implementation of IndexedUnsortedList.
+ * Elements are kept in a circular buffer: front marks the array slot of
+ * the first element and logical positions wrap around the end of the array,
+ * so adds and removes at either end never shift the other elements.
+ * 
+ * An optional position index (see enablePositionIndex()) maps each element
+ * to its first position so indexOf, contains, remove(E) and addAfter run in
+ * expected O(1) time instead of scanning the array.
  * 
  * @author 
  *
  * @param <E> type to store
  */
-public class IUArrayList<E> implements IndexedUnsortedList<E> {
+public class IUArrayList<E> implements IndexedUnsortedList<E>, RandomAccess {
 	private static final int DEFAULT_CAPACITY = 10;
 	private static final int NOT_FOUND = -1;
+	private static final int REFERENCE_BYTES = 4; // assumes compressed references
 	
 	private E[] array;
-	private int rear;
+	private int front; // array slot of the element at logical index 0
+	private int rear; // logical index one past the last element (the size)
 	private int modCount; // DO NOT REMOVE ME
+
+	private CapacityPolicy capacityPolicy;
+	private int reallocations; // times array was replaced by resize()
+	private long elementsCopied; // elements moved by those reallocations
+
+	// optional element -> first position index, null while disabled
+	private HashMap<E, IndexEntry> positionIndex;
+	private int indexOrigin; // added to a logical index to get the position stored in positionIndex
+	private boolean indexStale; // set when a mid-list shift renumbered positions
 	
 	/** Creates an empty list with default initial capacity */
 	public IUArrayList() {
@@ -24,16 +46,132 @@ public class IUArrayList<E> implements IndexedUnsortedList<E> {
 	 * Creates an empty list with the given initial capacity
 	 * @param initialCapacity
 	 */
-	@SuppressWarnings("unchecked")
 	public IUArrayList(int initialCapacity) {
+		this(initialCapacity, CapacityPolicy.DOUBLING);
+	}
+
+	/** 
+	 * Creates an empty list with the given initial capacity and resize policy
+	 * @param initialCapacity
+	 * @param capacityPolicy decides how far to grow and when to shrink
+	 */
+	@SuppressWarnings("unchecked")
+	public IUArrayList(int initialCapacity, CapacityPolicy capacityPolicy) {
 		array = (E[])(new Object[initialCapacity]);
+		front = 0;
 		rear = 0;
 		modCount = 0; // DO NOT REMOVE ME
+		this.capacityPolicy = capacityPolicy;
 	}
 	
-	/** Double the capacity of array */
+	/** Grow the array as the capacity policy dictates */
 	private void expandCapacity() {
-		array = Arrays.copyOf(array, array.length*2);
+		resize(capacityPolicy.grow(array.length, rear + 1));
+	}
+
+	/** Give memory back if the capacity policy asks for it after a removal */
+	private void shrinkCapacity() {
+		int capacity = capacityPolicy.shrink(array.length, rear);
+		if (capacity < array.length) {
+			resize(Math.max(capacity, rear));
+		}
+	}
+
+	/**
+	 * Replace array with one of the given length, unwrapping the elements to start at slot 0
+	 * @param capacity new array length, at least size()
+	 */
+	@SuppressWarnings("unchecked")
+	private void resize(int capacity) {
+		E[] resized = (E[])(new Object[capacity]);
+		int firstRun = Math.min(rear, array.length - front);
+		System.arraycopy(array, front, resized, 0, firstRun);
+		System.arraycopy(array, 0, resized, firstRun, rear - firstRun);
+		array = resized;
+		front = 0;
+		reallocations++;
+		elementsCopied += rear;
+	}
+
+	/**
+	 * Grows the array, if needed, so it holds at least minCapacity elements
+	 * without another reallocation
+	 * @param minCapacity number of elements to make room for
+	 */
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity > array.length) {
+			resize(capacityPolicy.grow(array.length, minCapacity));
+		}
+	}
+
+	/** Shrinks the array to exactly the number of elements in the list */
+	public void trimToSize() {
+		if (array.length > rear) {
+			resize(rear);
+		}
+	}
+
+	/** @return current length of the backing array */
+	public int capacity() {
+		return array.length;
+	}
+
+	/** @return number of times the backing array has been reallocated */
+	public int getReallocations() {
+		return reallocations;
+	}
+
+	/** @return estimated bytes copied by reallocations, assuming compressed references */
+	public long getBytesCopied() {
+		return elementsCopied * REFERENCE_BYTES;
+	}
+
+	/**
+	 * Translates a logical index into its array slot
+	 * @param index logical index, 0 <= index < array.length
+	 * @return slot in array holding that position
+	 */
+	private int slot(int index) {
+		int slot = front + index;
+		return (slot >= array.length) ? slot - array.length : slot;
+	}
+
+	/**
+	 * Starts maintaining an element -> position index alongside the array.
+	 * Adds and removes at either end keep the index current in O(1); an
+	 * insert or remove in the middle renumbers positions, so the index is
+	 * rebuilt lazily (O(n)) by the next lookup. Elements must not change
+	 * their equals/hashCode while in an indexed list.
+	 */
+	public void enablePositionIndex() {
+		if (positionIndex == null) {
+			positionIndex = new HashMap<E, IndexEntry>();
+			rebuildPositionIndex();
+		}
+	}
+
+	/** Stops maintaining the position index and releases its memory */
+	public void disablePositionIndex() {
+		positionIndex = null;
+	}
+
+	/** @return true if the position index is enabled */
+	public boolean hasPositionIndex() {
+		return positionIndex != null;
+	}
+
+	/**
+	 * Estimates the heap used by the position index, assuming compressed
+	 * references: the HashMap table plus one map node and one IndexEntry per
+	 * distinct element. The elements themselves are shared with the list.
+	 * @return estimated bytes, or 0 if the index is disabled
+	 */
+	public long positionIndexBytes() {
+		if (positionIndex == null) {
+			return 0;
+		}
+		long tableLength = Integer.highestOneBit(Math.max(1, (int)(positionIndex.size() / 0.75f)) * 2 - 1);
+		return 48 + 16 + 4 * tableLength + (32L + 24L) * positionIndex.size();
 	}
 
 	public void addToFront(E element) {
@@ -87,26 +225,203 @@ public class IUArrayList<E> implements IndexedUnsortedList<E> {
 		return removeElement(index);
 	}
 
+	/**
+	 * Appends every element of c, in c's iteration order, with a single
+	 * capacity check
+	 * @param c elements to add
+	 * @return true if the list changed
+	 */
+	public boolean addAll(Collection<? extends E> c) {
+		return addAll(rear, c);
+	}
+
+	/**
+	 * Inserts every element of c, in c's iteration order, starting at index.
+	 * The elements after index are moved once to open a gap of c.size() slots.
+	 * @param index position of the first inserted element
+	 * @param c elements to add
+	 * @return true if the list changed
+	 */
+	@SuppressWarnings("unchecked")
+	public boolean addAll(int index, Collection<? extends E> c) {
+		if (index > rear || index < 0) { throw new IndexOutOfBoundsException(); }
+		Object[] added = c.toArray();
+		int k = added.length;
+		if (k == 0) {
+			return false;
+		}
+
+		int size = rear + k;
+		if (size > array.length) {
+			// reallocate straight into the final layout
+			E[] resized = (E[])(new Object[capacityPolicy.grow(array.length, size)]);
+			for (int i = 0; i < index; i++) {
+				resized[i] = array[slot(i)];
+			}
+			for (int i = index; i < rear; i++) {
+				resized[i + k] = array[slot(i)];
+			}
+			array = resized;
+			front = 0;
+			reallocations++;
+			elementsCopied += rear;
+		} else if (front + size <= array.length) {
+			// the grown list does not wrap, so one arraycopy opens the gap
+			System.arraycopy(array, front + index, array, front + index + k, rear - index);
+		} else {
+			for (int i = rear - 1; i >= index; i--) {
+				array[slot(i + k)] = array[slot(i)];
+			}
+		}
+
+		for (int i = 0; i < k; i++) {
+			array[slot(index + i)] = (E)added[i];
+		}
+		if (positionIndex != null && !indexStale) {
+			if (index == rear) {
+				for (int i = 0; i < k; i++) {
+					indexInsert(index + i, (E)added[i]);
+				}
+			} else {
+				indexStale = true;
+			}
+		}
+		rear = size;
+		modCount++; // DO NOT REMOVE ME
+		return true;
+	}
+
+	/**
+	 * Removes every element that is contained in c
+	 * @param c elements to remove
+	 * @return true if the list changed
+	 */
+	public boolean removeAll(Collection<?> c) {
+		Objects.requireNonNull(c);
+		return removeIf(element -> c.contains(element));
+	}
+
+	/**
+	 * Removes every element that is not contained in c
+	 * @param c elements to keep
+	 * @return true if the list changed
+	 */
+	public boolean retainAll(Collection<?> c) {
+		Objects.requireNonNull(c);
+		return removeIf(element -> !c.contains(element));
+	}
+
+	/**
+	 * Removes every element matching filter in one compaction pass. The
+	 * filter is applied to all elements before anything moves, so a filter
+	 * that throws leaves the list unchanged.
+	 * @param filter returns true for elements to remove
+	 * @return true if the list changed
+	 */
+	public boolean removeIf(Predicate<? super E> filter) {
+		Objects.requireNonNull(filter);
+		long[] doomed = new long[(rear + 63) >> 6];
+		int removed = 0;
+		for (int i = 0; i < rear; i++) {
+			if (filter.test(array[slot(i)])) {
+				doomed[i >> 6] |= 1L << i;
+				removed++;
+			}
+		}
+		if (removed == 0) {
+			return false;
+		}
+
+		int kept = 0;
+		for (int i = 0; i < rear; i++) {
+			if ((doomed[i >> 6] & (1L << i)) == 0) {
+				array[slot(kept)] = array[slot(i)];
+				kept++;
+			}
+		}
+		for (int i = kept; i < rear; i++) {
+			array[slot(i)] = null;
+		}
+		rear = kept;
+		if (positionIndex != null) {
+			indexStale = true;
+		}
+		modCount++; // DO NOT REMOVE ME
+		shrinkCapacity();
+		return true;
+	}
+
+	/**
+	 * Sorts the list directly in the backing array with Arrays.sort, a
+	 * stable merge sort that is O(n) on input that is already sorted and
+	 * makes no get or set calls. A wrapped buffer is first rotated in
+	 * place so the elements are contiguous; that is not a reallocation.
+	 * @param c ordering to sort by, or null for the elements' natural ordering
+	 */
+	public void sort(Comparator<? super E> c) {
+		if (front + rear > array.length) {
+			reverse(0, front);
+			reverse(front, array.length);
+			reverse(0, array.length);
+			front = 0;
+		}
+		try {
+			Arrays.sort(array, front, front + rear, c);
+		} finally {
+			// even a sort cut short by c may have moved elements
+			if (positionIndex != null) {
+				indexStale = true;
+			}
+			modCount++; // DO NOT REMOVE ME
+		}
+	}
+
+	/**
+	 * Reverses array slots from through to - 1 in place
+	 * @param from first slot
+	 * @param to slot after the last
+	 */
+	private void reverse(int from, int to) {
+		for (int i = from, j = to - 1; i < j; i++, j--) {
+			E temp = array[i];
+			array[i] = array[j];
+			array[j] = temp;
+		}
+	}
+
 	public void set(int index, E element) {
 		if (index < 0 || index >= rear) {
 			throw new IndexOutOfBoundsException();
 		}
-		array[index] = element;
+		if (positionIndex != null && !indexStale) {
+			indexRemove(index, array[slot(index)]);
+			indexInsert(index, element);
+		}
+		array[slot(index)] = element;
 		modCount++; // DO NOT REMOVE ME
 	}
 
 	public E get(int index) {
 		if (isEmpty()) { throw new EmptyCollectionException("Unsorted List"); }
-		return array[index];
+		if (index < 0 || index >= rear) { throw new IndexOutOfBoundsException(); }
+		return array[slot(index)];
 	}
 
 	public int indexOf(E element) {
+		if (positionIndex != null) {
+			if (indexStale) {
+				rebuildPositionIndex();
+			}
+			IndexEntry entry = positionIndex.get(element);
+			return (entry == null) ? NOT_FOUND : entry.first - indexOrigin;
+		}
+
 		int index = NOT_FOUND;
 		
 		if (!isEmpty()) {
 			int i = 0;
 			while (index == NOT_FOUND && i < rear) {
-				if (element.equals(array[i])) {
+				if (element.equals(array[slot(i)])) {
 					index = i;
 				} else {
 					i++;
@@ -119,12 +434,12 @@ public class IUArrayList<E> implements IndexedUnsortedList<E> {
 
 	public E first() {
 		if (isEmpty()) { throw new EmptyCollectionException("Unsorted List"); }
-		return array[0];
+		return array[front];
 	}
 
 	public E last() {
 		if (isEmpty()) { throw new EmptyCollectionException("Unsorted List"); }
-		return array[rear - 1];
+		return array[slot(rear - 1)];
 	}
 
 	public boolean contains(E target) {
@@ -143,7 +458,7 @@ public class IUArrayList<E> implements IndexedUnsortedList<E> {
 		String result = "[";
 		
 		for (int i = 0; i < rear; i++) {
-			result += array[i].toString();
+			result += array[slot(i)].toString();
 			if (i < rear - 1) {
 				result += ", ";
 			}
@@ -157,15 +472,34 @@ public class IUArrayList<E> implements IndexedUnsortedList<E> {
 	private E removeElement(int index) {
         if (index < 0 || index >= rear) { throw new IndexOutOfBoundsException();}
 		if (isEmpty()) { throw new EmptyCollectionException("Unsorted List"); }
-        E result = this.array[index];
+        E result = this.array[slot(index)];
 
-        // shift the appropriate elements
-		for (int i = index; i < rear - 1; i++) {
-			array[i] = array[i+1];
-		} 
-		
-		array[rear - 1] = null; // Clear last element
+		if (positionIndex != null && !indexStale) {
+			if (index == 0 || index == rear - 1) {
+				indexRemove(index, result);
+				if (index == 0) {
+					indexOrigin++; // everyone else moved down one position
+				}
+			} else {
+				indexStale = true;
+			}
+		}
+
+        // shift whichever side of index is shorter
+		if (index < rear - 1 - index) {
+			for (int i = index; i > 0; i--) {
+				array[slot(i)] = array[slot(i - 1)];
+			}
+			array[front] = null; // Clear first element
+			front = slot(1);
+		} else {
+			for (int i = index; i < rear - 1; i++) {
+				array[slot(i)] = array[slot(i + 1)];
+			}
+			array[slot(rear - 1)] = null; // Clear last element
+		}
     	rear--;
+		shrinkCapacity();
 
     	return result;
 
@@ -175,94 +509,374 @@ public class IUArrayList<E> implements IndexedUnsortedList<E> {
 		if (index > rear || index < 0) { throw new IndexOutOfBoundsException(); }
 		if (rear == array.length) {expandCapacity();}
 
-		for (int i = rear; i > index; i--) {
-			array[i] = array[i - 1];
+		// shift whichever side of index is shorter
+		if (index < rear - index) {
+			front = (front == 0) ? array.length - 1 : front - 1;
+			for (int i = 0; i < index; i++) {
+				array[slot(i)] = array[slot(i + 1)];
+			}
+		} else {
+			for (int i = rear; i > index; i--) {
+				array[slot(i)] = array[slot(i - 1)];
+			}
 		}
 
-		array[index] = element;
+		array[slot(index)] = element;
 		rear++;
+
+		if (positionIndex != null && !indexStale) {
+			if (index == 0) {
+				indexOrigin--; // everyone else moved up one position
+				indexInsert(index, element);
+			} else if (index == rear - 1) {
+				indexInsert(index, element);
+			} else {
+				indexStale = true;
+			}
+		}
+	}
+
+	/**
+	 * Records one more occurrence of element at the given logical index
+	 * @param index logical index of the occurrence
+	 * @param element element stored there
+	 */
+	private void indexInsert(int index, E element) {
+		int position = index + indexOrigin;
+		IndexEntry entry = positionIndex.get(element);
+		if (entry == null) {
+			positionIndex.put(element, new IndexEntry(position));
+		} else {
+			entry.count++;
+			if (position < entry.first) {
+				entry.first = position;
+			}
+		}
+	}
+
+	/**
+	 * Forgets the occurrence of element at the given logical index
+	 * @param index logical index of the occurrence
+	 * @param element element stored there
+	 */
+	private void indexRemove(int index, E element) {
+		IndexEntry entry = positionIndex.get(element);
+		entry.count--;
+		if (entry.count == 0) {
+			positionIndex.remove(element);
+		} else if (entry.first == index + indexOrigin) {
+			indexStale = true; // the next occurrence is somewhere later
+		}
+	}
+
+	/** Recomputes the position index from the array in O(n) */
+	private void rebuildPositionIndex() {
+		positionIndex.clear();
+		indexOrigin = 0;
+		for (int i = 0; i < rear; i++) {
+			indexInsert(i, array[slot(i)]);
+		}
+		indexStale = false;
+	}
+
+	/** Position index bucket: first position of an element and how many times it occurs */
+	private static class IndexEntry {
+		private int first;
+		private int count;
+
+		private IndexEntry(int first) {
+			this.first = first;
+			this.count = 1;
+		}
+	}
+
+
+	/**
+	 * Returns a SIZED, SUBSIZED and ORDERED spliterator that splits the
+	 * backing array by index range. It binds to the list on first use and
+	 * throws ConcurrentModificationException if the list changes under it.
+	 */
+	@Override
+	public Spliterator<E> spliterator() {
+		return new IUArrayListSpliterator(0, -1, 0);
 	}
 
+	/** @return a sequential Stream over the list */
+	public Stream<E> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+
+	/** @return a possibly parallel Stream over the list */
+	public Stream<E> parallelStream() {
+		return StreamSupport.stream(spliterator(), true);
+	}
+
+	/** Index-range spliterator over the circular buffer */
+	private class IUArrayListSpliterator implements Spliterator<E> {
+		private int index; // next logical index to visit
+		private int fence; // one past the last index to visit, -1 until first use
+		private int expectedModCount;
+
+		private IUArrayListSpliterator(int origin, int fence, int expectedModCount) {
+			this.index = origin;
+			this.fence = fence;
+			this.expectedModCount = expectedModCount;
+		}
+
+		/** Binds to the current size and modCount on first use */
+		private int getFence() {
+			if (fence < 0) {
+				expectedModCount = modCount;
+				fence = rear;
+			}
+			return fence;
+		}
+
+		@Override
+		public Spliterator<E> trySplit() {
+			int hi = getFence();
+			int lo = index;
+			int mid = (lo + hi) >>> 1;
+			if (lo >= mid) {
+				return null;
+			}
+			index = mid;
+			return new IUArrayListSpliterator(lo, mid, expectedModCount);
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super E> action) {
+			Objects.requireNonNull(action);
+			int hi = getFence();
+			if (index >= hi) {
+				return false;
+			}
+			E element = array[slot(index++)];
+			action.accept(element);
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super E> action) {
+			Objects.requireNonNull(action);
+			int hi = getFence();
+			for (int i = index; i < hi; i++) {
+				action.accept(array[slot(i)]);
+			}
+			index = hi;
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+
+		@Override
+		public long estimateSize() {
+			return getFence() - index;
+		}
+
+		@Override
+		public int characteristics() {
+			return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+		}
+	}
 
-	// IGNORE THE FOLLOWING COMMENTED OUT CODE UNTIL LAB 10
-	// DON'T DELETE ME, HOWEVER!!!
 	public Iterator<E> iterator() {
-		// return new IUArrayListIterator(); // UNCOMMENT ME IN LAB 10
-		return null; // REMOVE ME IN LAB 10
+		return new IUArrayListIterator();
 	}
 
-	// UNCOMMENT THE CODE BELOW IN LAB 10
-	
-	// private class IUArrayListIterator implements Iterator<E> {
-
-	// 	private int iterModCount, current;
-	// 	private boolean canRemove;
-
-	// 	public IUArrayListIterator() {
-	// 		iterModCount = modCount;
-	// 		current = 0;
-	// 		canRemove = false;
-	// 	}
-
-	// 	@Override
-	// 	public boolean hasNext() {
-    //         if (iterModCount != modCount) {
-    //             throw new ConcurrentModificationException();
-    //         }
-    //         return current < rear;
-	// 	}
-
-	// 	@Override
-	// 	public E next() {
-    //         if (!hasNext()) {
-    //             throw new NoSuchElementException();
-    //         }
-    //         E item = array[current];
-	// 		current++;
-    //         canRemove = true;
-    //         return item;
-	// 	}
-
-	// 	@Override
-	// 	public void remove() {
-    //         if (iterModCount != modCount) {
-    //             throw new ConcurrentModificationException();
-    //         }
-    //         if (!canRemove) {
-    //             throw new IllegalStateException();
-    //         }
-    //         // remove the element in the array at index current-1
-    //         // presumably decrement the rear
-    //         // presumably the modCount is getting incremented
-	// 		// all indices have to back up by one
-	// 		current--;
-	// 		rear--;
-	// 		// shift elements to the left
-	// 		for (int i = current; i < rear; i++) {
-	// 			array[i] = array[i + 1];
-	// 		}
-	// 		array[rear] = null;
-	// 		modCount++;
-	// 		iterModCount++;
-	// 		// Can only remove the LAST "seen" element
-	// 		// set back to a non-removal state 
-    //         canRemove = false;
-	// 	}
+	/**
+	 * Applies action to every element in order. Walks the one or two
+	 * contiguous runs of the circular buffer directly and checks modCount
+	 * once at the end rather than per element, so the loop body stays tight.
+	 */
+	@Override
+	public void forEach(Consumer<? super E> action) {
+		Objects.requireNonNull(action);
+		final int expectedModCount = modCount;
+		final E[] elements = array;
+		final int size = rear;
+		final int first = front;
+
+		int firstRun = Math.min(size, elements.length - first);
+		for (int i = first; i < first + firstRun; i++) {
+			action.accept(elements[i]);
+		}
+		for (int i = 0; i < size - firstRun; i++) {
+			action.accept(elements[i]);
+		}
+
+		if (modCount != expectedModCount) {
+			throw new ConcurrentModificationException();
+		}
+	}
+
+	private class IUArrayListIterator implements Iterator<E> {
+
+		private int iterModCount, current;
+		private boolean canRemove;
+
+		public IUArrayListIterator() {
+			iterModCount = modCount;
+			current = 0;
+			canRemove = false;
+		}
+
+		@Override
+		public boolean hasNext() {
+            if (iterModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            return current < rear;
+		}
+
+		@Override
+		public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            E item = array[slot(current)];
+			current++;
+            canRemove = true;
+            return item;
+		}
+
+		@Override
+		public void remove() {
+            if (iterModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!canRemove) {
+                throw new IllegalStateException();
+            }
+			// remove the last element returned; all later indices back up by one
+			current--;
+			removeElement(current);
+			modCount++;
+			iterModCount++;
+			// Can only remove the LAST "seen" element
+			// set back to a non-removal state 
+            canRemove = false;
+		}
 		
-	// }
+	}
 
-	// IGNORE THE FOLLOWING CODE
-	// DON'T DELETE ME, HOWEVER!!!
 	@Override
 	public ListIterator<E> listIterator() {
-		// TODO Auto-generated method stub
-		return null;
+		return new IUArrayListListIterator(0);
 	}
 
 	@Override
 	public ListIterator<E> listIterator(int startingIndex) {
-		// TODO Auto-generated method stub
-		return null;
+		if (startingIndex < 0 || startingIndex > rear) {
+			throw new IndexOutOfBoundsException();
+		}
+		return new IUArrayListListIterator(startingIndex);
+	}
+
+	/**
+	 * ListIterator for IUArrayList, tracking positions by logical index
+	 */
+	private class IUArrayListListIterator implements ListIterator<E> {
+		private int nextIndex;
+		private int lastReturned; // index of last element returned by next() or previous()
+		private int iterModCount;
+
+		public IUArrayListListIterator(int startingIndex) {
+			nextIndex = startingIndex;
+			lastReturned = NOT_FOUND;
+			iterModCount = modCount;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex < rear;
+		}
+
+		@Override
+		public E next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = nextIndex++;
+			return array[slot(lastReturned)];
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex > 0;
+		}
+
+		@Override
+		public E previous() {
+			if (!hasPrevious()) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = --nextIndex;
+			return array[slot(lastReturned)];
+		}
+
+		@Override
+		public int nextIndex() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex;
+		}
+
+		@Override
+		public int previousIndex() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex - 1;
+		}
+
+		@Override
+		public void remove() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (lastReturned == NOT_FOUND) {
+				throw new IllegalStateException();
+			}
+			removeElement(lastReturned);
+			if (lastReturned < nextIndex) {
+				nextIndex--;
+			}
+			lastReturned = NOT_FOUND;
+			iterModCount = ++modCount;
+		}
+
+		@Override
+		public void set(E e) {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (lastReturned == NOT_FOUND) {
+				throw new IllegalStateException();
+			}
+			IUArrayList.this.set(lastReturned, e);
+			iterModCount = modCount;
+		}
+
+		@Override
+		public void add(E e) {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			addElement(nextIndex++, e);
+			lastReturned = NOT_FOUND;
+			iterModCount = ++modCount;
+		}
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,507 @@
+import java.util.*;
+
+/**
+ * Tiered-vector implementation of IndexedUnsortedList.
+ * Elements live in a directory of equal-sized blocks, each a small circular
+ * buffer. Every block except the last is kept full, so get and set locate a
+ * position with a shift and a mask in O(1). An insert or remove shifts
+ * elements inside one block and then moves a single element across each
+ * following block boundary, costing O(blockSize + size / blockSize). The
+ * block size doubles as the list grows and halves as it drains, never below
+ * its initial size, so it stays near sqrt(size), which keeps inserts and
+ * removes at any index O(sqrt(n)).
+ *
+ * @param <E> type to store
+ */
+public class IUChunkedArrayList<E> implements IndexedUnsortedList<E>, RandomAccess {
+	private static final int DEFAULT_BLOCK_SIZE = 16;
+	private static final int NOT_FOUND = -1;
+
+	private Block<E>[] blocks;
+	private int blockCount; // blocks in use; all but the last are full
+	private int shift; // log2 of the block size
+	private final int minShift; // log2 of the initial block size, the smallest used
+	private int size;
+	private int modCount;
+
+	/** Creates an empty list with the default initial block size */
+	public IUChunkedArrayList() {
+		this(DEFAULT_BLOCK_SIZE);
+	}
+
+	/**
+	 * Creates an empty list with the given initial block size
+	 * @param blockSize initial elements per block, rounded up to a power of two
+	 */
+	public IUChunkedArrayList(int blockSize) {
+		shift = 32 - Integer.numberOfLeadingZeros(Math.max(2, blockSize) - 1);
+		minShift = shift;
+		blocks = newDirectory(DEFAULT_BLOCK_SIZE);
+		blockCount = 0;
+		size = 0;
+		modCount = 0;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <E> Block<E>[] newDirectory(int length) {
+		return (Block<E>[])(new Block<?>[length]);
+	}
+
+	/** @return the number of elements each block holds */
+	private int blockSize() {
+		return 1 << shift;
+	}
+
+	/**
+	 * Appends an empty block to the directory, doubling the directory if it
+	 * is full and reusing the spare block left by the last shrink if any
+	 */
+	private void appendBlock() {
+		if (blockCount == blocks.length) {
+			blocks = Arrays.copyOf(blocks, blocks.length * 2);
+		}
+		if (blocks[blockCount] == null) {
+			blocks[blockCount] = new Block<E>(blockSize());
+		}
+		blockCount++;
+	}
+
+	/**
+	 * Redistributes every element into blocks twice as large. Called when
+	 * the directory holds more than twice as many blocks as a block holds
+	 * elements, so the block size tracks sqrt(size).
+	 */
+	private void growBlocks() {
+		reblock(shift + 1);
+	}
+
+	/**
+	 * Redistributes every element into blocks half as large. Called when
+	 * size falls below a quarter of blockSize() squared, so a list that
+	 * grew large and then drained doesn't keep its huge blocks. The two
+	 * thresholds are far enough apart that a list hovering around one of
+	 * them doesn't reblock on every add and remove.
+	 */
+	private void shrinkBlocks() {
+		reblock(shift - 1);
+	}
+
+	/**
+	 * Moves every element, in order, into blocks of 2^newShift elements
+	 * @param newShift log2 of the new block size
+	 */
+	private void reblock(int newShift) {
+		Block<E>[] oldBlocks = blocks;
+		int oldCount = blockCount;
+		shift = newShift;
+		blocks = newDirectory(Math.max(DEFAULT_BLOCK_SIZE, (size >>> shift) + 1));
+		blockCount = 0;
+		for (int b = 0; b < oldCount; b++) {
+			Block<E> block = oldBlocks[b];
+			for (int i = 0; i < block.count; i++) {
+				if (blockCount == 0 || blocks[blockCount - 1].count == blockSize()) {
+					appendBlock();
+				}
+				blocks[blockCount - 1].addLast(block.get(i));
+			}
+		}
+	}
+
+	@Override
+	public void addToFront(E element) {
+		addElement(0, element);
+	}
+
+	@Override
+	public void addToRear(E element) {
+		addElement(size, element);
+	}
+
+	@Override
+	public void add(E element) {
+		addToRear(element);
+	}
+
+	@Override
+	public void addAfter(E element, E target) {
+		int index = indexOf(target);
+		if (index == NOT_FOUND) {
+			throw new NoSuchElementException();
+		}
+		addElement(index + 1, element);
+	}
+
+	@Override
+	public void add(int index, E element) {
+		addElement(index, element);
+	}
+
+	@Override
+	public E removeFirst() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return removeElement(0);
+	}
+
+	@Override
+	public E removeLast() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return removeElement(size - 1);
+	}
+
+	@Override
+	public E remove(E element) {
+		int index = indexOf(element);
+		if (index == NOT_FOUND) {
+			throw new NoSuchElementException();
+		}
+		return removeElement(index);
+	}
+
+	@Override
+	public E remove(int index) {
+		return removeElement(index);
+	}
+
+	@Override
+	public void set(int index, E element) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+		blocks[index >>> shift].set(index & (blockSize() - 1), element);
+		modCount++;
+	}
+
+	@Override
+	public E get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+		return blocks[index >>> shift].get(index & (blockSize() - 1));
+	}
+
+	@Override
+	public int indexOf(E element) {
+		int base = 0;
+		for (int b = 0; b < blockCount; b++) {
+			Block<E> block = blocks[b];
+			for (int i = 0; i < block.count; i++) {
+				if (element.equals(block.get(i))) {
+					return base + i;
+				}
+			}
+			base += block.count;
+		}
+		return NOT_FOUND;
+	}
+
+	@Override
+	public E first() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return blocks[0].get(0);
+	}
+
+	@Override
+	public E last() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		Block<E> lastBlock = blocks[blockCount - 1];
+		return lastBlock.get(lastBlock.count - 1);
+	}
+
+	@Override
+	public boolean contains(E target) {
+		return indexOf(target) != NOT_FOUND;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder result = new StringBuilder("[");
+		for (int b = 0; b < blockCount; b++) {
+			Block<E> block = blocks[b];
+			for (int i = 0; i < block.count; i++) {
+				result.append(block.get(i));
+				if (b < blockCount - 1 || i < block.count - 1) {
+					result.append(", ");
+				}
+			}
+		}
+		return result.append("]").toString();
+	}
+
+	// Helper methods
+
+	private E removeElement(int index) {
+		if (index < 0 || index >= size) { throw new IndexOutOfBoundsException(); }
+		int b = index >>> shift;
+		E result = blocks[b].remove(index & (blockSize() - 1));
+
+		// pull one element back across each following block boundary
+		for (int k = b + 1; k < blockCount; k++) {
+			blocks[k - 1].addLast(blocks[k].removeFirst());
+		}
+		if (blocks[blockCount - 1].count == 0) {
+			// keep the emptied block as a spare so a boundary add/remove
+			// cycle does not allocate, but drop any older spare
+			blockCount--;
+			if (blockCount + 1 < blocks.length) {
+				blocks[blockCount + 1] = null;
+			}
+		}
+
+		size--;
+		if (shift > minShift && size < (long)blockSize() * blockSize() / 4) {
+			shrinkBlocks();
+		}
+		modCount++;
+		return result;
+	}
+
+	private void addElement(int index, E element) {
+		if (index < 0 || index > size) { throw new IndexOutOfBoundsException(); }
+		if (blockCount > 2 * blockSize()) { growBlocks(); }
+		if (size == blockCount << shift) { appendBlock(); }
+
+		// insert into the owning block; a full block spills its last
+		// element onto the front of the next one
+		int b = index >>> shift;
+		int local = index & (blockSize() - 1);
+		E carry = element;
+		while (blocks[b].count == blockSize()) {
+			E spilled = blocks[b].removeLast();
+			blocks[b].add(local, carry);
+			carry = spilled;
+			b++;
+			local = 0;
+		}
+		blocks[b].add(local, carry);
+
+		size++;
+		modCount++;
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return new ChunkedListIterator(0);
+	}
+
+	@Override
+	public ListIterator<E> listIterator() {
+		return new ChunkedListIterator(0);
+	}
+
+	@Override
+	public ListIterator<E> listIterator(int startingIndex) {
+		if (startingIndex < 0 || startingIndex > size) {
+			throw new IndexOutOfBoundsException();
+		}
+		return new ChunkedListIterator(startingIndex);
+	}
+
+	/**
+	 * Fixed-capacity circular buffer holding one tier of the list
+	 */
+	private static class Block<E> {
+		private final E[] items;
+		private int head; // slot of the block's first element
+		private int count;
+
+		@SuppressWarnings("unchecked")
+		private Block(int capacity) {
+			items = (E[])(new Object[capacity]);
+			head = 0;
+			count = 0;
+		}
+
+		private int slot(int index) {
+			return (head + index) & (items.length - 1);
+		}
+
+		private E get(int index) {
+			return items[slot(index)];
+		}
+
+		private void set(int index, E element) {
+			items[slot(index)] = element;
+		}
+
+		/** Inserts at index, shifting whichever side is shorter; the block must not be full */
+		private void add(int index, E element) {
+			if (index < count - index) {
+				head = (head - 1) & (items.length - 1);
+				for (int i = 0; i < index; i++) {
+					items[slot(i)] = items[slot(i + 1)];
+				}
+			} else {
+				for (int i = count; i > index; i--) {
+					items[slot(i)] = items[slot(i - 1)];
+				}
+			}
+			items[slot(index)] = element;
+			count++;
+		}
+
+		/** Removes at index, shifting whichever side is shorter */
+		private E remove(int index) {
+			E result = items[slot(index)];
+			if (index < count - 1 - index) {
+				for (int i = index; i > 0; i--) {
+					items[slot(i)] = items[slot(i - 1)];
+				}
+				items[head] = null;
+				head = slot(1);
+			} else {
+				for (int i = index; i < count - 1; i++) {
+					items[slot(i)] = items[slot(i + 1)];
+				}
+				items[slot(count - 1)] = null;
+			}
+			count--;
+			return result;
+		}
+
+		private void addLast(E element) {
+			items[slot(count)] = element;
+			count++;
+		}
+
+		private E removeFirst() {
+			E result = items[head];
+			items[head] = null;
+			head = slot(1);
+			count--;
+			return result;
+		}
+
+		private E removeLast() {
+			int last = slot(count - 1);
+			E result = items[last];
+			items[last] = null;
+			count--;
+			return result;
+		}
+	}
+
+	/**
+	 * ListIterator for IUChunkedArrayList, tracking positions by logical index
+	 */
+	private class ChunkedListIterator implements ListIterator<E> {
+		private int nextIndex;
+		private int lastReturned; // index of last element returned by next() or previous()
+		private int iterModCount;
+
+		/**
+		 * creates a new list iterator starting at the specified index
+		 * @param startingIndex index at which to start the iterator
+		 */
+		public ChunkedListIterator(int startingIndex) {
+			nextIndex = startingIndex;
+			lastReturned = NOT_FOUND;
+			iterModCount = modCount;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex < size;
+		}
+
+		@Override
+		public E next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = nextIndex++;
+			return get(lastReturned);
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex > 0;
+		}
+
+		@Override
+		public E previous() {
+			if (!hasPrevious()) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = --nextIndex;
+			return get(lastReturned);
+		}
+
+		@Override
+		public int nextIndex() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex;
+		}
+
+		@Override
+		public int previousIndex() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex - 1;
+		}
+
+		@Override
+		public void remove() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (lastReturned == NOT_FOUND) {
+				throw new IllegalStateException();
+			}
+			removeElement(lastReturned);
+			if (lastReturned < nextIndex) {
+				nextIndex--;
+			}
+			lastReturned = NOT_FOUND;
+			iterModCount = modCount;
+		}
+
+		@Override
+		public void set(E e) {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (lastReturned == NOT_FOUND) {
+				throw new IllegalStateException();
+			}
+			IUChunkedArrayList.this.set(lastReturned, e);
+			iterModCount = modCount;
+		}
+
+		@Override
+		public void add(E e) {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			addElement(nextIndex++, e);
+			lastReturned = NOT_FOUND;
+			iterModCount = modCount;
+		}
+	}
+}
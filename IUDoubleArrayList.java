@@ -0,0 +1,449 @@
+import java.util.*;
+
+/**
+ * Array-based implementation of IndexedUnsortedList specialized for double.
+ * Elements live unboxed in a double[] circular buffer laid out like IUArrayList.
+ * The primitive overloads (addToRear(double), getDouble(i), indexOf(double), ...)
+ * never allocate; the IndexedUnsortedList&lt;Double&gt; methods box and unbox
+ * at the boundary. Null elements are not supported.
+ */
+public class IUDoubleArrayList implements IndexedUnsortedList<Double>, RandomAccess {
+	private static final int DEFAULT_CAPACITY = 10;
+	private static final int NOT_FOUND = -1;
+
+	private double[] array;
+	private int front; // array slot of the element at logical index 0
+	private int rear; // logical index one past the last element (the size)
+	private int modCount;
+
+	/** Creates an empty list with default initial capacity */
+	public IUDoubleArrayList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates an empty list with the given initial capacity
+	 * @param initialCapacity
+	 */
+	public IUDoubleArrayList(int initialCapacity) {
+		array = new double[Math.max(1, initialCapacity)];
+		front = 0;
+		rear = 0;
+		modCount = 0;
+	}
+
+	/** Double the capacity of array, unwrapping the elements to start at slot 0 */
+	private void expandCapacity() {
+		double[] larger = new double[array.length * 2];
+		int firstRun = Math.min(rear, array.length - front);
+		System.arraycopy(array, front, larger, 0, firstRun);
+		System.arraycopy(array, 0, larger, firstRun, rear - firstRun);
+		array = larger;
+		front = 0;
+	}
+
+	/**
+	 * Translates a logical index into its array slot
+	 * @param index logical index, 0 <= index < array.length
+	 * @return slot in array holding that position
+	 */
+	private int slot(int index) {
+		int slot = front + index;
+		return (slot >= array.length) ? slot - array.length : slot;
+	}
+
+	// Primitive operations
+
+	public void addToFront(double element) {
+		addElement(0, element);
+		modCount++;
+	}
+
+	public void addToRear(double element) {
+		addElement(rear, element);
+		modCount++;
+	}
+
+	public void add(double element) {
+		addToRear(element);
+	}
+
+	public void addAfter(double element, double target) {
+		int index = indexOf(target);
+		if (index == NOT_FOUND) {
+			throw new NoSuchElementException();
+		}
+		addElement(index + 1, element);
+		modCount++;
+	}
+
+	public void add(int index, double element) {
+		addElement(index, element);
+		modCount++;
+	}
+
+	public double removeFirstDouble() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		modCount++;
+		return removeElement(0);
+	}
+
+	public double removeLastDouble() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		modCount++;
+		return removeElement(rear - 1);
+	}
+
+	/**
+	 * Removes the first occurrence of element
+	 * @param element value to remove
+	 * @return the removed value
+	 * @throws NoSuchElementException if element is not in the list
+	 */
+	public double removeValue(double element) {
+		int index = indexOf(element);
+		if (index == NOT_FOUND) {
+			throw new NoSuchElementException();
+		}
+		modCount++;
+		return removeElement(index);
+	}
+
+	/**
+	 * Removes the element at index
+	 * @param index position to remove
+	 * @return the removed value
+	 */
+	public double removeDouble(int index) {
+		modCount++;
+		return removeElement(index);
+	}
+
+	public void set(int index, double element) {
+		if (index < 0 || index >= rear) {
+			throw new IndexOutOfBoundsException();
+		}
+		array[slot(index)] = element;
+		modCount++;
+	}
+
+	public double getDouble(int index) {
+		if (index < 0 || index >= rear) {
+			throw new IndexOutOfBoundsException();
+		}
+		return array[slot(index)];
+	}
+
+	public int indexOf(double element) {
+		for (int i = 0; i < rear; i++) {
+			// compare bit patterns so NaN and -0.0 match the way Double.equals does
+			if (Double.doubleToLongBits(array[slot(i)]) == Double.doubleToLongBits(element)) {
+				return i;
+			}
+		}
+		return NOT_FOUND;
+	}
+
+	public double firstDouble() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return array[front];
+	}
+
+	public double lastDouble() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return array[slot(rear - 1)];
+	}
+
+	public boolean contains(double target) {
+		return indexOf(target) != NOT_FOUND;
+	}
+
+	/** @return a new array holding the elements in list order */
+	public double[] toDoubleArray() {
+		double[] result = new double[rear];
+		int firstRun = Math.min(rear, array.length - front);
+		System.arraycopy(array, front, result, 0, firstRun);
+		System.arraycopy(array, 0, result, firstRun, rear - firstRun);
+		return result;
+	}
+
+	// IndexedUnsortedList<Double> view
+
+	@Override
+	public void addToFront(Double element) {
+		addToFront(element.doubleValue());
+	}
+
+	@Override
+	public void addToRear(Double element) {
+		addToRear(element.doubleValue());
+	}
+
+	@Override
+	public void add(Double element) {
+		addToRear(element.doubleValue());
+	}
+
+	@Override
+	public void addAfter(Double element, Double target) {
+		if (target == null) {
+			throw new NoSuchElementException();
+		}
+		addAfter(element.doubleValue(), target.doubleValue());
+	}
+
+	@Override
+	public void add(int index, Double element) {
+		add(index, element.doubleValue());
+	}
+
+	@Override
+	public Double removeFirst() {
+		return removeFirstDouble();
+	}
+
+	@Override
+	public Double removeLast() {
+		return removeLastDouble();
+	}
+
+	@Override
+	public Double remove(Double element) {
+		if (element == null) {
+			throw new NoSuchElementException();
+		}
+		return removeValue(element.doubleValue());
+	}
+
+	@Override
+	public Double remove(int index) {
+		return removeDouble(index);
+	}
+
+	@Override
+	public void set(int index, Double element) {
+		set(index, element.doubleValue());
+	}
+
+	@Override
+	public Double get(int index) {
+		return getDouble(index);
+	}
+
+	@Override
+	public int indexOf(Double element) {
+		return (element == null) ? NOT_FOUND : indexOf(element.doubleValue());
+	}
+
+	@Override
+	public Double first() {
+		return firstDouble();
+	}
+
+	@Override
+	public Double last() {
+		return lastDouble();
+	}
+
+	@Override
+	public boolean contains(Double target) {
+		return indexOf(target) != NOT_FOUND;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return rear == 0;
+	}
+
+	@Override
+	public int size() {
+		return rear;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder result = new StringBuilder("[");
+		for (int i = 0; i < rear; i++) {
+			result.append(array[slot(i)]);
+			if (i < rear - 1) {
+				result.append(", ");
+			}
+		}
+		return result.append("]").toString();
+	}
+
+	// Helper methods
+
+	private double removeElement(int index) {
+		if (index < 0 || index >= rear) { throw new IndexOutOfBoundsException(); }
+		double result = array[slot(index)];
+
+		// shift whichever side of index is shorter
+		if (index < rear - 1 - index) {
+			for (int i = index; i > 0; i--) {
+				array[slot(i)] = array[slot(i - 1)];
+			}
+			front = slot(1);
+		} else {
+			for (int i = index; i < rear - 1; i++) {
+				array[slot(i)] = array[slot(i + 1)];
+			}
+		}
+		rear--;
+
+		return result;
+	}
+
+	private void addElement(int index, double element) {
+		if (index > rear || index < 0) { throw new IndexOutOfBoundsException(); }
+		if (rear == array.length) { expandCapacity(); }
+
+		// shift whichever side of index is shorter
+		if (index < rear - index) {
+			front = (front == 0) ? array.length - 1 : front - 1;
+			for (int i = 0; i < index; i++) {
+				array[slot(i)] = array[slot(i + 1)];
+			}
+		} else {
+			for (int i = rear; i > index; i--) {
+				array[slot(i)] = array[slot(i - 1)];
+			}
+		}
+
+		array[slot(index)] = element;
+		rear++;
+	}
+
+	@Override
+	public Iterator<Double> iterator() {
+		return new DoubleListIterator(0);
+	}
+
+	@Override
+	public ListIterator<Double> listIterator() {
+		return new DoubleListIterator(0);
+	}
+
+	@Override
+	public ListIterator<Double> listIterator(int startingIndex) {
+		if (startingIndex < 0 || startingIndex > rear) {
+			throw new IndexOutOfBoundsException();
+		}
+		return new DoubleListIterator(startingIndex);
+	}
+
+	/**
+	 * ListIterator for IUDoubleArrayList, tracking positions by logical index
+	 */
+	private class DoubleListIterator implements ListIterator<Double> {
+		private int nextIndex;
+		private int lastReturned; // index of last element returned by next() or previous()
+		private int iterModCount;
+
+		/**
+		 * creates a new list iterator starting at the specified index
+		 * @param startingIndex index at which to start the iterator
+		 */
+		public DoubleListIterator(int startingIndex) {
+			nextIndex = startingIndex;
+			lastReturned = NOT_FOUND;
+			iterModCount = modCount;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex < rear;
+		}
+
+		@Override
+		public Double next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = nextIndex++;
+			return array[slot(lastReturned)];
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex > 0;
+		}
+
+		@Override
+		public Double previous() {
+			if (!hasPrevious()) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = --nextIndex;
+			return array[slot(lastReturned)];
+		}
+
+		@Override
+		public int nextIndex() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex;
+		}
+
+		@Override
+		public int previousIndex() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex - 1;
+		}
+
+		@Override
+		public void remove() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (lastReturned == NOT_FOUND) {
+				throw new IllegalStateException();
+			}
+			removeElement(lastReturned);
+			if (lastReturned < nextIndex) {
+				nextIndex--;
+			}
+			lastReturned = NOT_FOUND;
+			iterModCount = ++modCount;
+		}
+
+		@Override
+		public void set(Double e) {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (lastReturned == NOT_FOUND) {
+				throw new IllegalStateException();
+			}
+			array[slot(lastReturned)] = e;
+			iterModCount = ++modCount;
+		}
+
+		@Override
+		public void add(Double e) {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			addElement(nextIndex++, e);
+			lastReturned = NOT_FOUND;
+			iterModCount = ++modCount;
+		}
+	}
+}
@@ -1,4 +1,7 @@
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Double-linked node implementation of IndexedUnsortedList.
@@ -12,17 +15,287 @@ public class IUDoubleLinkedList<E> implements IndexedUnsortedList<E> {
     private BidirectionalNode<E> front, rear;
     private int count;
     private int modCount;
+    private BidirectionalNode<E> finger; // last node reached by index
+    private int fingerIndex; // index of finger
+    private int fingerModCount; // modCount when finger was cached
+    private BidirectionalNode<E> pool; // recycled nodes, linked through next
+    private int poolSize;
+    private final int poolCapacity;
+    private long poolHits, poolMisses;
+    private HashMap<E, TreeSet<BidirectionalNode<E>>> nodeIndex; // null unless enabled
+    private IdentityHashMap<BidirectionalNode<E>, Long> nodeLabels; // order labels, while indexed
+    // orders the nodes of one index bucket front to rear
+    private final Comparator<BidirectionalNode<E>> listOrder =
+            (a, b) -> Long.compare(nodeLabels.get(a), nodeLabels.get(b));
     
-    /** Creates an empty list */
+    private static final long LABEL_LIMIT = 1L << 62; // labels lie strictly between 0 and this
+    private static final long LABEL_GAP = 1L << 20; // room left past a node added at either end
+    private static final double LABEL_GROWTH = 1.5; // a block of 2^i labels holds at most 1.5^i nodes
+    
+    /** Creates an empty list that doesn't recycle nodes */
     public IUDoubleLinkedList() {
+        this(0);
+    }
+    
+    /**
+     * Creates an empty list that keeps up to poolCapacity removed nodes
+     * and reuses them for later adds, so steady add/remove churn doesn't
+     * allocate
+     * @param poolCapacity most nodes kept for reuse, 0 to disable pooling
+     */
+    public IUDoubleLinkedList(int poolCapacity) {
+        if (poolCapacity < 0) {
+            throw new IllegalArgumentException("negative pool capacity");
+        }
         front = rear = null;
         count = 0;
         modCount = 0;
+        finger = null;
+        pool = null;
+        poolSize = 0;
+        this.poolCapacity = poolCapacity;
+        nodeIndex = null;
+        nodeLabels = null;
+    }
+    
+    /**
+     * Starts maintaining an element -> node index alongside the links, so
+     * remove(E), addAfter and contains find their node by hashing instead
+     * of scanning from front. Each indexed node also gets an order label
+     * that increases from front to rear: a new node takes a label between
+     * its neighbors', and when they are adjacent the smallest sparse enough
+     * block of labels around it is spread out again, O(log n) amortized.
+     * Equal elements share one bucket sorted by label, so the first or last
+     * of k duplicates is found in O(log k). Elements must not change their
+     * equals/hashCode while in an indexed list.
+     */
+    public void enableNodeIndex() {
+        if (nodeIndex == null) {
+            nodeIndex = new HashMap<E, TreeSet<BidirectionalNode<E>>>();
+            nodeLabels = new IdentityHashMap<BidirectionalNode<E>, Long>();
+            adoptNodes(front, null);
+        }
+    }
+    
+    /** Stops maintaining the node index and releases its memory */
+    public void disableNodeIndex() {
+        nodeIndex = null;
+        nodeLabels = null;
+    }
+    
+    /** @return true if the node index is enabled */
+    public boolean hasNodeIndex() {
+        return nodeIndex != null;
+    }
+    
+    /**
+     * helper method that adds a node that was just linked into the list to
+     * the node index, if enabled
+     * @param node newly linked node
+     */
+    private void indexNode(BidirectionalNode<E> node) {
+        indexNode(node, node.getNext());
+    }
+    
+    /**
+     * helper method that adds a node that was just linked into the list to
+     * the node index, if enabled
+     * @param node newly linked node; every node before it is indexed
+     * @param successor first indexed node after it, null if there is none
+     */
+    private void indexNode(BidirectionalNode<E> node, BidirectionalNode<E> successor) {
+        if (nodeIndex != null) {
+            labelNode(node, successor);
+            TreeSet<BidirectionalNode<E>> bucket = nodeIndex.get(node.getElement());
+            if (bucket == null) {
+                bucket = new TreeSet<BidirectionalNode<E>>(listOrder);
+                nodeIndex.put(node.getElement(), bucket);
+            }
+            bucket.add(node);
+        }
+    }
+    
+    /**
+     * helper method that gives a newly linked node an order label between
+     * its neighbors' labels. If they are adjacent, aligned blocks of labels
+     * around the predecessor are tried from small to large until one is
+     * sparse enough, and that block is relabeled evenly. Labels only move
+     * within the block and keep their order, so the buckets stay sorted.
+     * @param node newly linked node without a label
+     * @param successor first labeled node after it, null if there is none
+     */
+    private void labelNode(BidirectionalNode<E> node, BidirectionalNode<E> successor) {
+        BidirectionalNode<E> predecessor = node.getPrevious();
+        long low = (predecessor == null) ? 0 : nodeLabels.get(predecessor);
+        long high = (successor == null) ? LABEL_LIMIT : nodeLabels.get(successor);
+        
+        if (high - low > 1) {
+            // nodes added at an end step a fixed gap, so runs of adds rarely relabel
+            long step = Math.min(LABEL_GAP, (high - low) / 2);
+            if (successor == null) {
+                nodeLabels.put(node, low + step);
+            } else if (predecessor == null) {
+                nodeLabels.put(node, high - step);
+            } else {
+                nodeLabels.put(node, low + (high - low) / 2);
+            }
+            return;
+        }
+        
+        // widen the block until it holds few enough nodes, counting this one
+        BidirectionalNode<E> first = node; // frontmost node in the block
+        BidirectionalNode<E> left = predecessor;
+        BidirectionalNode<E> right = successor;
+        int nodes = 1;
+        int bits = 0;
+        double capacity = 1;
+        long blockLow;
+        do {
+            bits++;
+            capacity *= LABEL_GROWTH;
+            blockLow = low & -(1L << bits);
+            long blockHigh = blockLow + (1L << bits) - 1;
+            while (left != null && nodeLabels.get(left) >= blockLow) {
+                first = left;
+                left = left.getPrevious();
+                nodes++;
+            }
+            while (right != null && nodeLabels.get(right) <= blockHigh) {
+                right = right.getNext();
+                nodes++;
+            }
+        } while (nodes > capacity);
+        
+        long spacing = (1L << bits) / (nodes + 1);
+        long label = blockLow;
+        BidirectionalNode<E> current = first;
+        for (int i = 0; i < nodes; i++) {
+            label += spacing;
+            nodeLabels.put(current, label);
+            current = (current == node) ? successor : current.getNext();
+        }
+    }
+    
+    /**
+     * helper method that drops a node from the node index, if enabled
+     * @param node node to drop, still holding its element and label
+     */
+    private void unindexNode(BidirectionalNode<E> node) {
+        if (nodeIndex != null) {
+            TreeSet<BidirectionalNode<E>> bucket = nodeIndex.get(node.getElement());
+            bucket.remove(node);
+            if (bucket.isEmpty()) {
+                nodeIndex.remove(node.getElement());
+            }
+            nodeLabels.remove(node);
+        }
+    }
+    
+    /**
+     * helper method that finds the last node holding an element, through
+     * the node index when it is enabled
+     * @param element element to look for
+     * @return last node holding element, or null if there is none
+     */
+    private BidirectionalNode<E> findLastNode(E element) {
+        if (nodeIndex != null) {
+            TreeSet<BidirectionalNode<E>> bucket = nodeIndex.get(element);
+            return (bucket == null) ? null : bucket.last();
+        }
+        
+        BidirectionalNode<E> current = rear;
+        while (current != null && !current.getElement().equals(element)) {
+            current = current.getPrevious();
+        }
+        return current;
+    }
+    
+    /**
+     * helper method that finds the first node holding an element, through
+     * the node index when it is enabled
+     * @param element element to look for
+     * @return first node holding element, or null if there is none
+     */
+    private BidirectionalNode<E> findNode(E element) {
+        if (nodeIndex != null) {
+            TreeSet<BidirectionalNode<E>> bucket = nodeIndex.get(element);
+            return (bucket == null) ? null : bucket.first();
+        }
+        
+        BidirectionalNode<E> current = front;
+        while (current != null && !current.getElement().equals(element)) {
+            current = current.getNext();
+        }
+        return current;
+    }
+    
+    /**
+     * helper method that returns a node holding element, taken from the
+     * pool when one is available
+     * @param element element for the node
+     * @return an unlinked node holding element, not yet indexed
+     */
+    private BidirectionalNode<E> obtainNode(E element) {
+        if (pool == null) {
+            if (poolCapacity > 0) {
+                poolMisses++;
+            }
+            return new BidirectionalNode<E>(element);
+        }
+        
+        BidirectionalNode<E> node = pool;
+        pool = node.getNext();
+        poolSize--;
+        poolHits++;
+        
+        node.setNext(null);
+        node.setElement(element);
+        return node;
+    }
+    
+    /**
+     * helper method that clears a node that was unlinked from the list and
+     * keeps it for reuse if the pool has room
+     * @param node the removed node
+     */
+    private void releaseNode(BidirectionalNode<E> node) {
+        unindexNode(node);
+        node.setElement(null);
+        node.setPrevious(null);
+        if (poolSize < poolCapacity) {
+            node.setNext(pool);
+            pool = node;
+            poolSize++;
+        } else {
+            node.setNext(null);
+        }
+    }
+    
+    /**
+     * @return number of adds that reused a pooled node
+     */
+    public long getPoolHits() {
+        return poolHits;
+    }
+    
+    /**
+     * @return number of adds that allocated a node because the pool was empty,
+     *         always 0 when pooling is disabled
+     */
+    public long getPoolMisses() {
+        return poolMisses;
+    }
+    
+    /**
+     * @return number of nodes currently waiting in the pool
+     */
+    public int getPoolSize() {
+        return poolSize;
     }
 
     @Override
     public void addToFront(E element) {
-        BidirectionalNode<E> newNode = new BidirectionalNode<E>(element);
+        BidirectionalNode<E> newNode = obtainNode(element);
         
         // if the list is empty, both front and rear will point to the new node
         if (isEmpty()) {
@@ -33,6 +306,7 @@ public class IUDoubleLinkedList<E> implements IndexedUnsortedList<E> {
             front.setPrevious(newNode);
             front = newNode;
         }
+        indexNode(newNode);
         
         count++;
         modCount++;
@@ -40,7 +314,7 @@ public class IUDoubleLinkedList<E> implements IndexedUnsortedList<E> {
 
     @Override
     public void addToRear(E element) {
-        BidirectionalNode<E> newNode = new BidirectionalNode<E>(element);
+        BidirectionalNode<E> newNode = obtainNode(element);
         
         // if the list is empty, both front and rear will point to the new node
         if (isEmpty()) {
@@ -51,6 +325,7 @@ public class IUDoubleLinkedList<E> implements IndexedUnsortedList<E> {
             rear.setNext(newNode);
             rear = newNode;
         }
+        indexNode(newNode);
         
         count++;
         modCount++;
@@ -69,10 +344,7 @@ public class IUDoubleLinkedList<E> implements IndexedUnsortedList<E> {
         }
         
         // find the target node
-        BidirectionalNode<E> targetNode = front;
-        while (targetNode != null && !targetNode.getElement().equals(target)) {
-            targetNode = targetNode.getNext();
-        }
+        BidirectionalNode<E> targetNode = findNode(target);
         
         // if target is not found
         if (targetNode == null) {
@@ -83,13 +355,14 @@ public class IUDoubleLinkedList<E> implements IndexedUnsortedList<E> {
         if (targetNode == rear) {
             addToRear(element);
         } else {
-            BidirectionalNode<E> newNode = new BidirectionalNode<E>(element);
+            BidirectionalNode<E> newNode = obtainNode(element);
             BidirectionalNode<E> nextNode = targetNode.getNext();
             
             newNode.setPrevious(targetNode);
             newNode.setNext(nextNode);
             targetNode.setNext(newNode);
             nextNode.setPrevious(newNode);
+            indexNode(newNode);
             
             count++;
             modCount++;
@@ -112,23 +385,19 @@ public class IUDoubleLinkedList<E> implements IndexedUnsortedList<E> {
         } 
         // adding in the middle
         else {
-            BidirectionalNode<E> current = front;
-            
-            // find the node at position index
-            for (int i = 0; i < index; i++) {
-                current = current.getNext();
-            }
-            
-            BidirectionalNode<E> newNode = new BidirectionalNode<E>(element);
+            BidirectionalNode<E> current = nodeAt(index);
+            BidirectionalNode<E> newNode = obtainNode(element);
             BidirectionalNode<E> prevNode = current.getPrevious();
             
             newNode.setNext(current);
             newNode.setPrevious(prevNode);
             prevNode.setNext(newNode);
             current.setPrevious(newNode);
+            indexNode(newNode);
             
             count++;
             modCount++;
+            setFinger(newNode, index);
         }
     }
 
@@ -138,7 +407,8 @@ public class IUDoubleLinkedList<E> implements IndexedUnsortedList<E> {
             throw new NoSuchElementException();
         }
         
-        E removedElement = front.getElement();
+        BidirectionalNode<E> removedNode = front;
+        E removedElement = removedNode.getElement();
         
         // if there's only one element
         if (front == rear) {
@@ -148,6 +418,7 @@ public class IUDoubleLinkedList<E> implements IndexedUnsortedList<E> {
             front = front.getNext();
             front.setPrevious(null);
         }
+        releaseNode(removedNode);
         
         count--;
         modCount++;
@@ -161,7 +432,8 @@ public class IUDoubleLinkedList<E> implements IndexedUnsortedList<E> {
             throw new NoSuchElementException();
         }
         
-        E removedElement = rear.getElement();
+        BidirectionalNode<E> removedNode = rear;
+        E removedElement = removedNode.getElement();
         
         // if there's only one element
         if (front == rear) {
@@ -171,6 +443,7 @@ public class IUDoubleLinkedList<E> implements IndexedUnsortedList<E> {
             rear = rear.getPrevious();
             rear.setNext(null);
         }
+        releaseNode(removedNode);
         
         count--;
         modCount++;
@@ -185,10 +458,7 @@ public class IUDoubleLinkedList<E> implements IndexedUnsortedList<E> {
         }
         
         // try to find the element
-        BidirectionalNode<E> current = front;
-        while (current != null && !current.getElement().equals(element)) {
-            current = current.getNext();
-        }
+        BidirectionalNode<E> current = findNode(element);
         
         // if element is not found
         if (current == null) {
@@ -214,13 +484,63 @@ public class IUDoubleLinkedList<E> implements IndexedUnsortedList<E> {
             return removeLast();
         }
         
-        // find the node at the specified index
-        BidirectionalNode<E> current = front;
-        for (int i = 0; i < index; i++) {
+        // find the node at the specified index; its successor takes over the index
+        BidirectionalNode<E> current = nodeAt(index);
+        BidirectionalNode<E> successor = current.getNext();
+        E removedElement = removeNode(current);
+        setFinger(successor, index);
+        
+        return removedElement;
+    }
+    
+    /**
+     * helper method that finds the node at a valid index, walking from
+     * whichever of front, rear or the cached finger is closest
+     * @param index position of the node, 0 <= index < count
+     * @return the node at index
+     */
+    private BidirectionalNode<E> nodeAt(int index) {
+        BidirectionalNode<E> current;
+        int position;
+        
+        // start from the nearer end
+        if (index < count - 1 - index) {
+            current = front;
+            position = 0;
+        } else {
+            current = rear;
+            position = count - 1;
+        }
+        
+        // the finger is only trusted if the list hasn't changed since it was cached
+        if (finger != null && fingerModCount == modCount
+                && Math.abs(index - fingerIndex) < Math.abs(index - position)) {
+            current = finger;
+            position = fingerIndex;
+        }
+        
+        while (position < index) {
             current = current.getNext();
+            position++;
+        }
+        while (position > index) {
+            current = current.getPrevious();
+            position--;
         }
         
-        return removeNode(current);
+        setFinger(current, index);
+        return current;
+    }
+    
+    /**
+     * helper method that caches a node and its index for the next indexed access
+     * @param node node at index
+     * @param index position of node
+     */
+    private void setFinger(BidirectionalNode<E> node, int index) {
+        finger = node;
+        fingerIndex = index;
+        fingerModCount = modCount;
     }
     
     /**
@@ -254,6 +574,7 @@ public class IUDoubleLinkedList<E> implements IndexedUnsortedList<E> {
             prevNode.setNext(nextNode);
             nextNode.setPrevious(prevNode);
         }
+        releaseNode(node);
         
         count--;
         modCount++;
@@ -261,21 +582,44 @@ public class IUDoubleLinkedList<E> implements IndexedUnsortedList<E> {
         return element;
     }
 
+    /**
+     * helper method that links a new node holding element in front of a node of the list
+     * @param successor node to insert before
+     * @param element element to add
+     */
+    private void addBefore(BidirectionalNode<E> successor, E element) {
+        if (successor == front) {
+            addToFront(element);
+            return;
+        }
+        
+        BidirectionalNode<E> newNode = obtainNode(element);
+        BidirectionalNode<E> prevNode = successor.getPrevious();
+        
+        newNode.setNext(successor);
+        newNode.setPrevious(prevNode);
+        prevNode.setNext(newNode);
+        successor.setPrevious(newNode);
+        indexNode(newNode);
+        
+        count++;
+        modCount++;
+    }
+
     @Override
     public void set(int index, E element) {
         if (index < 0 || index >= count) {
             throw new IndexOutOfBoundsException();
         }
         
-        BidirectionalNode<E> current = front;
-        
-        // find the node at the specified index
-        for (int i = 0; i < index; i++) {
-            current = current.getNext();
-        }
-        
+        BidirectionalNode<E> current = nodeAt(index);
+        unindexNode(current);
         current.setElement(element);
+        indexNode(current);
         modCount++;
+        
+        // replacing an element doesn't move any nodes, so the finger stays valid
+        fingerModCount = modCount;
     }
 
     @Override
@@ -284,18 +628,16 @@ public class IUDoubleLinkedList<E> implements IndexedUnsortedList<E> {
             throw new IndexOutOfBoundsException();
         }
         
-        BidirectionalNode<E> current = front;
-        
-        // find the node at the specified index
-        for (int i = 0; i < index; i++) {
-            current = current.getNext();
-        }
-        
-        return current.getElement();
+        return nodeAt(index).getElement();
     }
 
     @Override
     public int indexOf(E element) {
+        // the index can't give a position, but it can rule the element out
+        if (nodeIndex != null && !nodeIndex.containsKey(element)) {
+            return -1;
+        }
+        
         BidirectionalNode<E> current = front;
         int index = 0;
         
@@ -332,6 +674,9 @@ public class IUDoubleLinkedList<E> implements IndexedUnsortedList<E> {
 
     @Override
     public boolean contains(E target) {
+        if (nodeIndex != null) {
+            return nodeIndex.containsKey(target);
+        }
         return indexOf(target) != -1;
     }
 
@@ -361,10 +706,413 @@ public class IUDoubleLinkedList<E> implements IndexedUnsortedList<E> {
         result.append("]");
         return result.toString();
     }
+    
+    /**
+     * Moves every node of other to the rear of this list in O(1), leaving
+     * other empty. No nodes are copied or allocated. If either list has
+     * its node index enabled, the moved nodes are re-indexed in O(k).
+     * @param other list whose nodes are appended
+     * @throws IllegalArgumentException if other is this list
+     */
+    public void concat(IUDoubleLinkedList<E> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("cannot concat a list onto itself");
+        }
+        if (other.isEmpty()) {
+            return;
+        }
+        
+        BidirectionalNode<E> first = other.front;
+        BidirectionalNode<E> last = other.rear;
+        int moved = other.count;
+        other.detachAll();
+        
+        if (isEmpty()) {
+            front = first;
+        } else {
+            rear.setNext(first);
+            first.setPrevious(rear);
+        }
+        rear = last;
+        adoptNodes(first, null);
+        
+        count += moved;
+        modCount++;
+    }
+    
+    /**
+     * Cuts this list at the cursor of one of its list iterators. This list
+     * keeps the elements before the cursor; the elements from the cursor to
+     * the rear move, nodes and all, into a new list that is returned. The
+     * iterator knows its index, so no walk is needed and the split is O(1)
+     * (O(k) in moved nodes if the node index is enabled). The iterator
+     * stays valid, positioned at the new end of this list.
+     * @param iterator list iterator of this list
+     * @return new list holding the elements from the cursor onward
+     * @throws IllegalArgumentException if iterator doesn't belong to this list
+     * @throws ConcurrentModificationException if the list changed since the iterator was last used
+     */
+    public IUDoubleLinkedList<E> splitAt(ListIterator<E> iterator) {
+        DLLListIterator cursor = ownIterator(iterator);
+        IUDoubleLinkedList<E> tail = new IUDoubleLinkedList<E>(poolCapacity);
+        if (nodeIndex != null) {
+            tail.enableNodeIndex();
+        }
+        if (cursor.nextNode == null) {
+            return tail;
+        }
+        
+        BidirectionalNode<E> first = cursor.nextNode;
+        BidirectionalNode<E> last = rear;
+        int moved = count - cursor.nextIndex;
+        
+        // unindex here before the nodes change lists
+        if (nodeIndex != null) {
+            for (BidirectionalNode<E> node = first; node != null; node = node.getNext()) {
+                unindexNode(node);
+            }
+        }
+        if (first == front) {
+            front = null;
+            rear = null;
+        } else {
+            rear = first.getPrevious();
+            rear.setNext(null);
+            first.setPrevious(null);
+        }
+        count -= moved;
+        modCount++;
+        
+        tail.front = first;
+        tail.rear = last;
+        tail.count = moved;
+        tail.adoptNodes(first, null);
+        
+        cursor.nextNode = null;
+        cursor.lastReturned = null;
+        cursor.iterModCount = modCount;
+        return tail;
+    }
+    
+    /**
+     * Moves every node of other into this list at the cursor of one of
+     * this list's iterators, in O(1), leaving other empty. The iterator
+     * stays valid and ends up after the spliced elements, as if each had
+     * been added through it.
+     * @param iterator list iterator of this list marking where to insert
+     * @param other list whose nodes are inserted
+     * @throws IllegalArgumentException if other is this list or iterator doesn't belong to this list
+     * @throws ConcurrentModificationException if the list changed since the iterator was last used
+     */
+    public void spliceAfter(ListIterator<E> iterator, IUDoubleLinkedList<E> other) {
+        DLLListIterator cursor = ownIterator(iterator);
+        if (other == this) {
+            throw new IllegalArgumentException("cannot splice a list into itself");
+        }
+        if (other.isEmpty()) {
+            return;
+        }
+        
+        BidirectionalNode<E> first = other.front;
+        BidirectionalNode<E> last = other.rear;
+        int moved = other.count;
+        other.detachAll();
+        
+        // link the run between the cursor's previous and next nodes
+        first.setPrevious(cursor.previousNode);
+        if (cursor.previousNode == null) {
+            front = first;
+        } else {
+            cursor.previousNode.setNext(first);
+        }
+        last.setNext(cursor.nextNode);
+        if (cursor.nextNode == null) {
+            rear = last;
+        } else {
+            cursor.nextNode.setPrevious(last);
+        }
+        adoptNodes(first, cursor.nextNode);
+        
+        count += moved;
+        modCount++;
+        
+        cursor.previousNode = last;
+        cursor.nextIndex += moved;
+        cursor.lastReturned = null;
+        cursor.iterModCount = modCount;
+    }
+    
+    /**
+     * helper method that checks a list iterator belongs to this list and is current
+     * @param iterator iterator passed by the caller
+     * @return the iterator as a DLLListIterator
+     */
+    private DLLListIterator ownIterator(ListIterator<E> iterator) {
+        if (!(iterator instanceof IUDoubleLinkedList.DLLListIterator)) {
+            throw new IllegalArgumentException("not a list iterator of this list");
+        }
+        DLLListIterator cursor = (DLLListIterator)iterator;
+        if (cursor.owner() != this) {
+            throw new IllegalArgumentException("not a list iterator of this list");
+        }
+        if (cursor.iterModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+        return cursor;
+    }
+    
+    /**
+     * helper method that empties this list without touching its nodes, so
+     * another list can take them over
+     */
+    private void detachAll() {
+        if (nodeIndex != null) {
+            nodeIndex.clear();
+            nodeLabels.clear();
+        }
+        front = null;
+        rear = null;
+        count = 0;
+        modCount++;
+    }
+    
+    /**
+     * helper method that adds nodes that just moved into this list to its
+     * node index, if enabled
+     * @param first first moved node
+     * @param end node after the last moved node, null if they run to rear
+     */
+    private void adoptNodes(BidirectionalNode<E> first, BidirectionalNode<E> end) {
+        if (nodeIndex != null) {
+            for (BidirectionalNode<E> node = first; node != end; node = node.getNext()) {
+                indexNode(node, end);
+            }
+        }
+    }
+
+    /**
+     * Sorts the list by relinking its nodes; no element is copied and no
+     * node is allocated. This is a stable, bottom-up natural merge sort:
+     * strictly descending runs are reversed in one pass, then each pass
+     * merges neighboring ascending runs until one run is left. It takes
+     * O(n log n) comparisons in the worst case, O(n) on input that is
+     * already sorted or reverse sorted, and O(1) extra memory.
+     * If the comparator throws, the exception is passed on and the list
+     * still holds every element, partly sorted.
+     * @param c ordering to sort by, or null for the elements' natural ordering
+     */
+    public void sort(Comparator<? super E> c) {
+        @SuppressWarnings("unchecked")
+        Comparator<? super E> order = (c != null) ? c : (Comparator<? super E>)Comparator.naturalOrder();
+        
+        if (count < 2) {
+            modCount++;
+            return;
+        }
+        
+        try {
+            // the passes only maintain next links, and keep them whole even if order throws
+            reverseDescendingRuns(order);
+            while (mergePass(order)) {
+            }
+        } finally {
+            BidirectionalNode<E> previous = null;
+            for (BidirectionalNode<E> node = front; node != null; node = node.getNext()) {
+                node.setPrevious(previous);
+                previous = node;
+            }
+            rear = previous;
+            
+            // the nodes moved, so their order labels are rebuilt
+            if (nodeIndex != null) {
+                nodeIndex.clear();
+                nodeLabels.clear();
+                adoptNodes(front, null);
+            }
+            modCount++;
+        }
+    }
+    
+    /**
+     * helper method that reverses every strictly descending run of nodes in
+     * place, following next links only. Equal neighbors never start or
+     * extend a descending run, so reversing keeps the sort stable.
+     * @param order ordering being sorted by
+     */
+    private void reverseDescendingRuns(Comparator<? super E> order) {
+        BidirectionalNode<E> tail = null; // last node already in final position for this pass
+        BidirectionalNode<E> current = front;
+        
+        while (current != null) {
+            BidirectionalNode<E> next = current.getNext();
+            if (next == null || order.compare(next.getElement(), current.getElement()) >= 0) {
+                tail = current;
+                current = next;
+                continue;
+            }
+            
+            // current starts a descending run; point each node back at its predecessor
+            BidirectionalNode<E> runLast = current;
+            BidirectionalNode<E> reversed = current;
+            current = next;
+            try {
+                while (current != null && order.compare(current.getElement(), reversed.getElement()) < 0) {
+                    next = current.getNext();
+                    current.setNext(reversed);
+                    reversed = current;
+                    current = next;
+                }
+            } finally {
+                // if order threw, the part reversed so far is linked in the same way
+                runLast.setNext(current);
+                if (tail == null) {
+                    front = reversed;
+                } else {
+                    tail.setNext(reversed);
+                }
+            }
+            tail = runLast;
+        }
+    }
+    
+    /**
+     * helper method that merges each pair of neighboring ascending runs,
+     * following next links only. The merged output always links on to the
+     * unmerged nodes, so if order throws no node is lost.
+     * @param order ordering being sorted by
+     * @return false if the list was already a single run
+     */
+    private boolean mergePass(Comparator<? super E> order) {
+        BidirectionalNode<E> tail = null; // last node of the merged output so far
+        BidirectionalNode<E> current = front;
+        boolean merged = false;
+        
+        while (current != null) {
+            BidirectionalNode<E> firstEnd = runEnd(current, order);
+            BidirectionalNode<E> second = firstEnd.getNext();
+            
+            // an odd run out is carried over unchanged
+            if (second == null) {
+                if (tail == null) {
+                    front = current;
+                } else {
+                    tail.setNext(current);
+                }
+                break;
+            }
+            
+            BidirectionalNode<E> secondEnd = runEnd(second, order);
+            BidirectionalNode<E> first = current;
+            current = secondEnd.getNext();
+            firstEnd.setNext(null);
+            secondEnd.setNext(null);
+            
+            // take from the first run on ties to stay stable
+            try {
+                while (first != null && second != null) {
+                    BidirectionalNode<E> smaller;
+                    if (order.compare(second.getElement(), first.getElement()) < 0) {
+                        smaller = second;
+                        second = second.getNext();
+                    } else {
+                        smaller = first;
+                        first = first.getNext();
+                    }
+                    if (tail == null) {
+                        front = smaller;
+                    } else {
+                        tail.setNext(smaller);
+                    }
+                    tail = smaller;
+                }
+            } finally {
+                // append what is left of either run, both if order threw
+                if (first != null) {
+                    if (tail == null) {
+                        front = first;
+                    } else {
+                        tail.setNext(first);
+                    }
+                    tail = firstEnd;
+                }
+                if (second != null) {
+                    if (tail == null) {
+                        front = second;
+                    } else {
+                        tail.setNext(second);
+                    }
+                    tail = secondEnd;
+                }
+                tail.setNext(current);
+            }
+            merged = true;
+        }
+        
+        return merged;
+    }
+    
+    /**
+     * helper method that finds the last node of the ascending run starting at a node
+     * @param start first node of the run
+     * @param order ordering being sorted by
+     * @return last node of the run
+     */
+    private BidirectionalNode<E> runEnd(BidirectionalNode<E> start, Comparator<? super E> order) {
+        BidirectionalNode<E> end = start;
+        while (end.getNext() != null && order.compare(end.getNext().getElement(), end.getElement()) >= 0) {
+            end = end.getNext();
+        }
+        return end;
+    }
+
+    /**
+     * Returns an ORDERED, SIZED spliterator. Since nodes can't be split by
+     * index, each trySplit copies a growing batch of elements from the front
+     * into an array, so parallel streams get evenly sized work units.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new DLLSpliterator();
+    }
+    
+    /**
+     * @return a sequential Stream over the list
+     */
+    public Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+    
+    /**
+     * @return a possibly parallel Stream over the list
+     */
+    public Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 
     @Override
     public Iterator<E> iterator() {
-        return new DLLIterator();
+        return new DLLIterator(false);
+    }
+    
+    /**
+     * Returns an iterator from rear to front. It starts at rear in O(1),
+     * unlike listIterator(size()), and supports remove.
+     * @return iterator over the list in reverse order
+     */
+    public Iterator<E> descendingIterator() {
+        return new DLLIterator(true);
+    }
+    
+    /**
+     * Returns a view of this list in reverse order. The view copies
+     * nothing: index i of the view is index size() - 1 - i of this list,
+     * its front is this list's rear, and changes through either one show
+     * in both. Tail-first consumers can use removeFirst, first and
+     * iterator on the view without any positional walk.
+     * @return reversed view backed by this list
+     */
+    public IndexedUnsortedList<E> reversed() {
+        return new ReversedView();
     }
 
     @Override
@@ -385,15 +1133,18 @@ public class IUDoubleLinkedList<E> implements IndexedUnsortedList<E> {
      * iterator for IUDoubleLinkedList
      */
     private class DLLIterator implements Iterator<E> {
+        private final boolean descending; // walk from rear toward front
         private BidirectionalNode<E> nextNode;
         private BidirectionalNode<E> lastReturned;
         private int iterModCount;
         
         /**
          * creates a new iterator for the list
+         * @param descending true to start at rear and walk toward front
          */
-        public DLLIterator() {
-            nextNode = front;
+        public DLLIterator(boolean descending) {
+            this.descending = descending;
+            nextNode = descending ? rear : front;
             lastReturned = null;
             iterModCount = modCount;
         }
@@ -416,7 +1167,7 @@ public class IUDoubleLinkedList<E> implements IndexedUnsortedList<E> {
             }
             
             lastReturned = nextNode;
-            nextNode = nextNode.getNext();
+            nextNode = descending ? nextNode.getPrevious() : nextNode.getNext();
             return lastReturned.getElement();
         }
         
@@ -436,6 +1187,100 @@ public class IUDoubleLinkedList<E> implements IndexedUnsortedList<E> {
         }
     }
     
+    /**
+     * batch-splitting spliterator for IUDoubleLinkedList
+     */
+    private class DLLSpliterator implements Spliterator<E> {
+        private static final int BATCH_UNIT = 1 << 10; // batch size increment
+        private static final int MAX_BATCH = 1 << 25; // largest batch copied
+        
+        private BidirectionalNode<E> current; // next node to visit
+        private int remaining; // elements left, -1 until first use
+        private int batch; // size of the previous batch
+        private int expectedModCount;
+        
+        /**
+         * creates a spliterator that binds to the list on first use
+         */
+        public DLLSpliterator() {
+            remaining = -1;
+        }
+        
+        /**
+         * binds to the current front, count and modCount on first use
+         * @return number of elements left to visit
+         */
+        private int getRemaining() {
+            if (remaining < 0) {
+                current = front;
+                remaining = count;
+                expectedModCount = modCount;
+            }
+            return remaining;
+        }
+        
+        @Override
+        public Spliterator<E> trySplit() {
+            int left = getRemaining();
+            if (left <= 1 || current == null) {
+                return null;
+            }
+            
+            int n = Math.min(Math.min(batch + BATCH_UNIT, left), MAX_BATCH);
+            Object[] elements = new Object[n];
+            int j = 0;
+            while (j < n && current != null) {
+                elements[j++] = current.getElement();
+                current = current.getNext();
+            }
+            batch = j;
+            remaining = left - j;
+            return Spliterators.spliterator(elements, 0, j, Spliterator.ORDERED);
+        }
+        
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            if (getRemaining() <= 0 || current == null) {
+                return false;
+            }
+            
+            E element = current.getElement();
+            current = current.getNext();
+            remaining--;
+            action.accept(element);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+        
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            getRemaining();
+            while (current != null && remaining > 0) {
+                E element = current.getElement();
+                current = current.getNext();
+                remaining--;
+                action.accept(element);
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+        
+        @Override
+        public long estimateSize() {
+            return getRemaining();
+        }
+        
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+    
     /**
      * ListIterator for IUDoubleLinkedList
      */
@@ -466,14 +1311,18 @@ public class IUDoubleLinkedList<E> implements IndexedUnsortedList<E> {
                 nextNode = front;
                 previousNode = null;
             } else {
-                nextNode = front;
-                for (int i = 0; i < startingIndex; i++) {
-                    nextNode = nextNode.getNext();
-                }
+                nextNode = nodeAt(startingIndex);
                 previousNode = nextNode.getPrevious();
             }
         }
         
+        /**
+         * @return the list this iterator walks
+         */
+        private IUDoubleLinkedList<E> owner() {
+            return IUDoubleLinkedList.this;
+        }
+        
         @Override
         public boolean hasNext() {
             if (iterModCount != modCount) {
@@ -549,10 +1398,11 @@ public class IUDoubleLinkedList<E> implements IndexedUnsortedList<E> {
                 throw new IllegalStateException();
             }
             
+            // step the cursor past the node being removed
             if (lastReturned == nextNode) {
-                previousNode = lastReturned.getPrevious();
-            } else {
                 nextNode = lastReturned.getNext();
+            } else {
+                previousNode = lastReturned.getPrevious();
                 nextIndex--;
             }
             
@@ -571,7 +1421,9 @@ public class IUDoubleLinkedList<E> implements IndexedUnsortedList<E> {
                 throw new IllegalStateException();
             }
             
+            unindexNode(lastReturned);
             lastReturned.setElement(e);
+            indexNode(lastReturned);
             iterModCount = ++modCount;
         }
         
@@ -581,7 +1433,7 @@ public class IUDoubleLinkedList<E> implements IndexedUnsortedList<E> {
                 throw new ConcurrentModificationException();
             }
             
-            BidirectionalNode<E> newNode = new BidirectionalNode<E>(e);
+            BidirectionalNode<E> newNode = obtainNode(e);
             
             // adding to an empty list
             if (isEmpty()) {
@@ -612,6 +1464,7 @@ public class IUDoubleLinkedList<E> implements IndexedUnsortedList<E> {
                 nextNode.setPrevious(newNode);
                 previousNode = newNode;
             }
+            indexNode(newNode);
             
             nextIndex++;
             count++;
@@ -619,4 +1472,255 @@ public class IUDoubleLinkedList<E> implements IndexedUnsortedList<E> {
             lastReturned = null;
         }
     }
+    
+    /**
+     * reversed view of IUDoubleLinkedList; every call is translated to the
+     * mirror-image call on the list
+     */
+    private class ReversedView implements IndexedUnsortedList<E> {
+        
+        /**
+         * @param index index in the view, or size() for the position after its last element
+         * @return the matching index in the list
+         */
+        private int mirror(int index) {
+            return count - 1 - index;
+        }
+        
+        @Override
+        public void addToFront(E element) {
+            IUDoubleLinkedList.this.addToRear(element);
+        }
+        
+        @Override
+        public void addToRear(E element) {
+            IUDoubleLinkedList.this.addToFront(element);
+        }
+        
+        @Override
+        public void add(E element) {
+            addToRear(element);
+        }
+        
+        @Override
+        public void addAfter(E element, E target) {
+            // the view's first target is the list's last one, and after it in the view is before it in the list
+            BidirectionalNode<E> targetNode = findLastNode(target);
+            if (targetNode == null) {
+                throw new NoSuchElementException();
+            }
+            addBefore(targetNode, element);
+        }
+        
+        @Override
+        public void add(int index, E element) {
+            if (index < 0 || index > count) {
+                throw new IndexOutOfBoundsException();
+            }
+            IUDoubleLinkedList.this.add(count - index, element);
+        }
+        
+        @Override
+        public E removeFirst() {
+            return IUDoubleLinkedList.this.removeLast();
+        }
+        
+        @Override
+        public E removeLast() {
+            return IUDoubleLinkedList.this.removeFirst();
+        }
+        
+        @Override
+        public E remove(E element) {
+            BidirectionalNode<E> node = findLastNode(element);
+            if (node == null) {
+                throw new NoSuchElementException();
+            }
+            return removeNode(node);
+        }
+        
+        @Override
+        public E remove(int index) {
+            if (index < 0 || index >= count) {
+                throw new IndexOutOfBoundsException();
+            }
+            return IUDoubleLinkedList.this.remove(mirror(index));
+        }
+        
+        @Override
+        public void set(int index, E element) {
+            if (index < 0 || index >= count) {
+                throw new IndexOutOfBoundsException();
+            }
+            IUDoubleLinkedList.this.set(mirror(index), element);
+        }
+        
+        @Override
+        public E get(int index) {
+            if (index < 0 || index >= count) {
+                throw new IndexOutOfBoundsException();
+            }
+            return IUDoubleLinkedList.this.get(mirror(index));
+        }
+        
+        @Override
+        public int indexOf(E element) {
+            BidirectionalNode<E> current = rear;
+            int index = 0;
+            
+            // search from the list's rear, which is the view's front
+            while (current != null) {
+                if (current.getElement().equals(element)) {
+                    return index;
+                }
+                current = current.getPrevious();
+                index++;
+            }
+            
+            return -1;
+        }
+        
+        @Override
+        public E first() {
+            return IUDoubleLinkedList.this.last();
+        }
+        
+        @Override
+        public E last() {
+            return IUDoubleLinkedList.this.first();
+        }
+        
+        @Override
+        public boolean contains(E target) {
+            return IUDoubleLinkedList.this.contains(target);
+        }
+        
+        @Override
+        public boolean isEmpty() {
+            return count == 0;
+        }
+        
+        @Override
+        public int size() {
+            return count;
+        }
+        
+        @Override
+        public String toString() {
+            StringBuilder result = new StringBuilder("[");
+            BidirectionalNode<E> current = rear;
+            
+            while (current != null) {
+                result.append(current.getElement());
+                if (current.getPrevious() != null) {
+                    result.append(", ");
+                }
+                current = current.getPrevious();
+            }
+            
+            result.append("]");
+            return result.toString();
+        }
+        
+        @Override
+        public Iterator<E> iterator() {
+            return new DLLIterator(true);
+        }
+        
+        @Override
+        public ListIterator<E> listIterator() {
+            return new ReversedListIterator(0);
+        }
+        
+        @Override
+        public ListIterator<E> listIterator(int startingIndex) {
+            if (startingIndex < 0 || startingIndex > count) {
+                throw new IndexOutOfBoundsException();
+            }
+            return new ReversedListIterator(startingIndex);
+        }
+    }
+    
+    /**
+     * ListIterator for the reversed view, driving a DLLListIterator of the
+     * list in the opposite direction
+     */
+    private class ReversedListIterator implements ListIterator<E> {
+        private final DLLListIterator forward;
+        private boolean canModify; // next() or previous() called since the last add or remove
+        
+        /**
+         * creates a new list iterator starting at the specified view index
+         * @param startingIndex index in the view at which to start the iterator
+         */
+        public ReversedListIterator(int startingIndex) {
+            forward = new DLLListIterator(count - startingIndex);
+            canModify = false;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return forward.hasPrevious();
+        }
+        
+        @Override
+        public E next() {
+            E element = forward.previous();
+            canModify = true;
+            return element;
+        }
+        
+        @Override
+        public boolean hasPrevious() {
+            return forward.hasNext();
+        }
+        
+        @Override
+        public E previous() {
+            E element = forward.next();
+            canModify = true;
+            return element;
+        }
+        
+        @Override
+        public int nextIndex() {
+            return count - forward.nextIndex();
+        }
+        
+        @Override
+        public int previousIndex() {
+            return nextIndex() - 1;
+        }
+        
+        @Override
+        public void remove() {
+            if (forward.iterModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!canModify) {
+                throw new IllegalStateException();
+            }
+            forward.remove();
+            canModify = false;
+        }
+        
+        @Override
+        public void set(E e) {
+            if (forward.iterModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!canModify) {
+                throw new IllegalStateException();
+            }
+            forward.set(e);
+        }
+        
+        @Override
+        public void add(E e) {
+            // the new element goes before the view's cursor, which is after it in the list
+            forward.add(e);
+            forward.previous();
+            canModify = false;
+        }
+    }
 }
\ No newline at end of file
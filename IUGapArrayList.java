@@ -0,0 +1,360 @@
+import java.util.*;
+
+/**
+ * Gap-buffer implementation of IndexedUnsortedList.
+ * The array holds the elements in two runs separated by an empty gap that
+ * sits at the most recent edit position. Inserts and removes at the gap are
+ * O(1); moving the gap to a new index costs O(distance), so clustered edits
+ * around a moving cursor stay cheap while get and set remain O(1).
+ *
+ * @param <E> type to store
+ */
+public class IUGapArrayList<E> implements IndexedUnsortedList<E>, RandomAccess {
+	private static final int DEFAULT_CAPACITY = 10;
+	private static final int NOT_FOUND = -1;
+
+	private E[] array;
+	private int gapStart; // first empty slot, also the logical index of the gap
+	private int gapEnd; // first slot after the gap
+	private int modCount;
+
+	/** Creates an empty list with default initial capacity */
+	public IUGapArrayList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates an empty list with the given initial capacity
+	 * @param initialCapacity
+	 */
+	@SuppressWarnings("unchecked")
+	public IUGapArrayList(int initialCapacity) {
+		array = (E[])(new Object[Math.max(1, initialCapacity)]);
+		gapStart = 0;
+		gapEnd = array.length;
+		modCount = 0;
+	}
+
+	/** Double the capacity of array, widening the gap */
+	@SuppressWarnings("unchecked")
+	private void expandCapacity() {
+		E[] larger = (E[])(new Object[array.length * 2]);
+		int tail = array.length - gapEnd;
+		System.arraycopy(array, 0, larger, 0, gapStart);
+		System.arraycopy(array, gapEnd, larger, larger.length - tail, tail);
+		gapEnd = larger.length - tail;
+		array = larger;
+	}
+
+	/**
+	 * Moves the gap so it starts at the given logical index, shifting only
+	 * the elements between the old and new gap positions
+	 * @param index new logical position of the gap, 0 <= index <= size()
+	 */
+	private void moveGap(int index) {
+		if (index < gapStart) {
+			int distance = gapStart - index;
+			System.arraycopy(array, index, array, gapEnd - distance, distance);
+			Arrays.fill(array, index, Math.min(gapStart, gapEnd - distance), null);
+			gapStart = index;
+			gapEnd -= distance;
+		} else if (index > gapStart) {
+			int distance = index - gapStart;
+			System.arraycopy(array, gapEnd, array, gapStart, distance);
+			Arrays.fill(array, Math.max(gapEnd, index), gapEnd + distance, null);
+			gapStart = index;
+			gapEnd += distance;
+		}
+	}
+
+	/**
+	 * Translates a logical index into its array slot
+	 * @param index logical index, 0 <= index < size()
+	 * @return slot in array holding that position
+	 */
+	private int slot(int index) {
+		return (index < gapStart) ? index : index + (gapEnd - gapStart);
+	}
+
+	@Override
+	public void addToFront(E element) {
+		addElement(0, element);
+	}
+
+	@Override
+	public void addToRear(E element) {
+		addElement(size(), element);
+	}
+
+	@Override
+	public void add(E element) {
+		addToRear(element);
+	}
+
+	@Override
+	public void addAfter(E element, E target) {
+		int index = indexOf(target);
+		if (index == NOT_FOUND) {
+			throw new NoSuchElementException();
+		}
+		addElement(index + 1, element);
+	}
+
+	@Override
+	public void add(int index, E element) {
+		addElement(index, element);
+	}
+
+	@Override
+	public E removeFirst() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return removeElement(0);
+	}
+
+	@Override
+	public E removeLast() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return removeElement(size() - 1);
+	}
+
+	@Override
+	public E remove(E element) {
+		int index = indexOf(element);
+		if (index == NOT_FOUND) {
+			throw new NoSuchElementException();
+		}
+		return removeElement(index);
+	}
+
+	@Override
+	public E remove(int index) {
+		return removeElement(index);
+	}
+
+	@Override
+	public void set(int index, E element) {
+		if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		array[slot(index)] = element;
+		modCount++;
+	}
+
+	@Override
+	public E get(int index) {
+		if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		return array[slot(index)];
+	}
+
+	@Override
+	public int indexOf(E element) {
+		for (int i = 0; i < gapStart; i++) {
+			if (element.equals(array[i])) {
+				return i;
+			}
+		}
+		for (int i = gapEnd; i < array.length; i++) {
+			if (element.equals(array[i])) {
+				return i - (gapEnd - gapStart);
+			}
+		}
+		return NOT_FOUND;
+	}
+
+	@Override
+	public E first() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return array[slot(0)];
+	}
+
+	@Override
+	public E last() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return array[slot(size() - 1)];
+	}
+
+	@Override
+	public boolean contains(E target) {
+		return indexOf(target) != NOT_FOUND;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	@Override
+	public int size() {
+		return array.length - (gapEnd - gapStart);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder result = new StringBuilder("[");
+		int size = size();
+		for (int i = 0; i < size; i++) {
+			result.append(array[slot(i)]);
+			if (i < size - 1) {
+				result.append(", ");
+			}
+		}
+		return result.append("]").toString();
+	}
+
+	// Helper methods
+
+	private E removeElement(int index) {
+		if (index < 0 || index >= size()) { throw new IndexOutOfBoundsException(); }
+		moveGap(index);
+		E result = array[gapEnd];
+		array[gapEnd] = null;
+		gapEnd++;
+		modCount++;
+		return result;
+	}
+
+	private void addElement(int index, E element) {
+		if (index < 0 || index > size()) { throw new IndexOutOfBoundsException(); }
+		moveGap(index);
+		if (gapStart == gapEnd) { expandCapacity(); }
+		array[gapStart] = element;
+		gapStart++;
+		modCount++;
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return new GapListIterator(0);
+	}
+
+	@Override
+	public ListIterator<E> listIterator() {
+		return new GapListIterator(0);
+	}
+
+	@Override
+	public ListIterator<E> listIterator(int startingIndex) {
+		if (startingIndex < 0 || startingIndex > size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		return new GapListIterator(startingIndex);
+	}
+
+	/**
+	 * ListIterator for IUGapArrayList. Adds and removes through the iterator
+	 * happen at its cursor, so a run of them only moves the gap once.
+	 */
+	private class GapListIterator implements ListIterator<E> {
+		private int nextIndex;
+		private int lastReturned; // index of last element returned by next() or previous()
+		private int iterModCount;
+
+		/**
+		 * creates a new list iterator starting at the specified index
+		 * @param startingIndex index at which to start the iterator
+		 */
+		public GapListIterator(int startingIndex) {
+			nextIndex = startingIndex;
+			lastReturned = NOT_FOUND;
+			iterModCount = modCount;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex < size();
+		}
+
+		@Override
+		public E next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = nextIndex++;
+			return array[slot(lastReturned)];
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex > 0;
+		}
+
+		@Override
+		public E previous() {
+			if (!hasPrevious()) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = --nextIndex;
+			return array[slot(lastReturned)];
+		}
+
+		@Override
+		public int nextIndex() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex;
+		}
+
+		@Override
+		public int previousIndex() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex - 1;
+		}
+
+		@Override
+		public void remove() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (lastReturned == NOT_FOUND) {
+				throw new IllegalStateException();
+			}
+			removeElement(lastReturned);
+			if (lastReturned < nextIndex) {
+				nextIndex--;
+			}
+			lastReturned = NOT_FOUND;
+			iterModCount = modCount;
+		}
+
+		@Override
+		public void set(E e) {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (lastReturned == NOT_FOUND) {
+				throw new IllegalStateException();
+			}
+			array[slot(lastReturned)] = e;
+			iterModCount = ++modCount;
+		}
+
+		@Override
+		public void add(E e) {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			addElement(nextIndex++, e);
+			lastReturned = NOT_FOUND;
+			iterModCount = modCount;
+		}
+	}
+}
@@ -0,0 +1,456 @@
+import java.util.*;
+
+/**
+ * Double-linked implementation of IndexedUnsortedList without node
+ * objects. Elements live in an Object[] and are linked through parallel
+ * int[] next and prev arrays, so each element costs one reference and two
+ * ints (12 bytes with compressed references) instead of a BidirectionalNode
+ * (24 bytes), and the collector sees three arrays instead of one object
+ * per element.
+ * Slots freed by removes are kept on a free list linked through next and
+ * reused by later adds; the arrays double when no free slot is left.
+ * Linked-list costs are unchanged: adds and removes at either end or
+ * through a ListIterator are O(1), indexed access walks from the nearer end.
+ *
+ * @param <E> type to store
+ */
+public class IUIndexLinkedList<E> implements IndexedUnsortedList<E> {
+	private static final int DEFAULT_CAPACITY = 10;
+	private static final int NIL = -1; // "null" slot link
+	private static final int NOT_FOUND = -1;
+
+	private Object[] elements;
+	private int[] next;
+	private int[] prev;
+	private int head, tail; // slots of the first and last elements, NIL when empty
+	private int free; // first free slot, NIL when every slot is in use
+	private int size;
+	private int modCount;
+
+	/** Creates an empty list with default initial capacity */
+	public IUIndexLinkedList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates an empty list with the given initial capacity
+	 * @param initialCapacity
+	 */
+	public IUIndexLinkedList(int initialCapacity) {
+		int capacity = Math.max(1, initialCapacity);
+		elements = new Object[capacity];
+		next = new int[capacity];
+		prev = new int[capacity];
+		head = tail = NIL;
+		free = NIL;
+		pushFree(0, capacity);
+		size = 0;
+		modCount = 0;
+	}
+
+	/**
+	 * Puts slots from through to - 1 on the free list, lowest slot first
+	 */
+	private void pushFree(int from, int to) {
+		for (int slot = to - 1; slot >= from; slot--) {
+			next[slot] = free;
+			free = slot;
+		}
+	}
+
+	/** Double the capacity of the arrays, freeing the new slots */
+	private void expandCapacity() {
+		int oldCapacity = elements.length;
+		int newCapacity = oldCapacity * 2;
+		elements = Arrays.copyOf(elements, newCapacity);
+		next = Arrays.copyOf(next, newCapacity);
+		prev = Arrays.copyOf(prev, newCapacity);
+		pushFree(oldCapacity, newCapacity);
+	}
+
+	/**
+	 * Takes a slot off the free list and stores element in it
+	 * @param element element for the slot
+	 * @return the unlinked slot
+	 */
+	private int allocate(E element) {
+		if (free == NIL) {
+			expandCapacity();
+		}
+		int slot = free;
+		free = next[slot];
+		elements[slot] = element;
+		return slot;
+	}
+
+	/**
+	 * Clears an unlinked slot and returns it to the free list
+	 * @param slot slot to free
+	 */
+	private void release(int slot) {
+		elements[slot] = null;
+		prev[slot] = NIL;
+		next[slot] = free;
+		free = slot;
+	}
+
+	@SuppressWarnings("unchecked")
+	private E element(int slot) {
+		return (E)elements[slot];
+	}
+
+	/**
+	 * Finds the slot at a valid index, walking from the nearer end
+	 * @param index position, 0 <= index < size
+	 * @return slot holding that position
+	 */
+	private int slotAt(int index) {
+		int slot;
+		if (index < size / 2) {
+			slot = head;
+			for (int i = 0; i < index; i++) {
+				slot = next[slot];
+			}
+		} else {
+			slot = tail;
+			for (int i = size - 1; i > index; i--) {
+				slot = prev[slot];
+			}
+		}
+		return slot;
+	}
+
+	/**
+	 * Links a new slot holding element in front of successor
+	 * @param successor slot to insert before, NIL to append at the rear
+	 * @param element element to insert
+	 */
+	private void linkBefore(int successor, E element) {
+		int slot = allocate(element);
+		int predecessor = (successor == NIL) ? tail : prev[successor];
+		prev[slot] = predecessor;
+		next[slot] = successor;
+		if (predecessor == NIL) {
+			head = slot;
+		} else {
+			next[predecessor] = slot;
+		}
+		if (successor == NIL) {
+			tail = slot;
+		} else {
+			prev[successor] = slot;
+		}
+		size++;
+		modCount++;
+	}
+
+	/**
+	 * Unlinks a slot and frees it
+	 * @param slot slot to remove
+	 * @return the element it held
+	 */
+	private E unlink(int slot) {
+		E result = element(slot);
+		int predecessor = prev[slot];
+		int successor = next[slot];
+		if (predecessor == NIL) {
+			head = successor;
+		} else {
+			next[predecessor] = successor;
+		}
+		if (successor == NIL) {
+			tail = predecessor;
+		} else {
+			prev[successor] = predecessor;
+		}
+		release(slot);
+		size--;
+		modCount++;
+		return result;
+	}
+
+	/**
+	 * @param element element to look for
+	 * @return slot of its first occurrence, NIL if absent
+	 */
+	private int slotOf(E element) {
+		for (int slot = head; slot != NIL; slot = next[slot]) {
+			if (element.equals(elements[slot])) {
+				return slot;
+			}
+		}
+		return NIL;
+	}
+
+	@Override
+	public void addToFront(E element) {
+		linkBefore(head, element);
+	}
+
+	@Override
+	public void addToRear(E element) {
+		linkBefore(NIL, element);
+	}
+
+	@Override
+	public void add(E element) {
+		addToRear(element);
+	}
+
+	@Override
+	public void addAfter(E element, E target) {
+		int slot = slotOf(target);
+		if (slot == NIL) {
+			throw new NoSuchElementException();
+		}
+		linkBefore(next[slot], element);
+	}
+
+	@Override
+	public void add(int index, E element) {
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException();
+		}
+		linkBefore((index == size) ? NIL : slotAt(index), element);
+	}
+
+	@Override
+	public E removeFirst() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return unlink(head);
+	}
+
+	@Override
+	public E removeLast() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return unlink(tail);
+	}
+
+	@Override
+	public E remove(E element) {
+		int slot = slotOf(element);
+		if (slot == NIL) {
+			throw new NoSuchElementException();
+		}
+		return unlink(slot);
+	}
+
+	@Override
+	public E remove(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+		return unlink(slotAt(index));
+	}
+
+	@Override
+	public void set(int index, E element) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+		elements[slotAt(index)] = element;
+		modCount++;
+	}
+
+	@Override
+	public E get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+		return element(slotAt(index));
+	}
+
+	@Override
+	public int indexOf(E element) {
+		int index = 0;
+		for (int slot = head; slot != NIL; slot = next[slot]) {
+			if (element.equals(elements[slot])) {
+				return index;
+			}
+			index++;
+		}
+		return NOT_FOUND;
+	}
+
+	@Override
+	public E first() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return element(head);
+	}
+
+	@Override
+	public E last() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return element(tail);
+	}
+
+	@Override
+	public boolean contains(E target) {
+		return slotOf(target) != NIL;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder result = new StringBuilder("[");
+		for (int slot = head; slot != NIL; slot = next[slot]) {
+			result.append(elements[slot]);
+			if (next[slot] != NIL) {
+				result.append(", ");
+			}
+		}
+		return result.append("]").toString();
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return new IndexLinkedListIterator(0);
+	}
+
+	@Override
+	public ListIterator<E> listIterator() {
+		return new IndexLinkedListIterator(0);
+	}
+
+	@Override
+	public ListIterator<E> listIterator(int startingIndex) {
+		if (startingIndex < 0 || startingIndex > size) {
+			throw new IndexOutOfBoundsException();
+		}
+		return new IndexLinkedListIterator(startingIndex);
+	}
+
+	/**
+	 * ListIterator for IUIndexLinkedList, following slot links
+	 */
+	private class IndexLinkedListIterator implements ListIterator<E> {
+		private int nextSlot; // slot that would be returned by next(), NIL at the end
+		private int lastReturned; // slot last returned by next() or previous(), NIL if none
+		private int nextIndex;
+		private int iterModCount;
+
+		/**
+		 * creates a new list iterator starting at the specified index
+		 * @param startingIndex index at which to start the iterator
+		 */
+		public IndexLinkedListIterator(int startingIndex) {
+			nextSlot = (startingIndex == size) ? NIL : slotAt(startingIndex);
+			lastReturned = NIL;
+			nextIndex = startingIndex;
+			iterModCount = modCount;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextSlot != NIL;
+		}
+
+		@Override
+		public E next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = nextSlot;
+			nextSlot = next[nextSlot];
+			nextIndex++;
+			return element(lastReturned);
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex > 0;
+		}
+
+		@Override
+		public E previous() {
+			if (!hasPrevious()) {
+				throw new NoSuchElementException();
+			}
+			nextSlot = (nextSlot == NIL) ? tail : prev[nextSlot];
+			lastReturned = nextSlot;
+			nextIndex--;
+			return element(lastReturned);
+		}
+
+		@Override
+		public int nextIndex() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex;
+		}
+
+		@Override
+		public int previousIndex() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex - 1;
+		}
+
+		@Override
+		public void remove() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (lastReturned == NIL) {
+				throw new IllegalStateException();
+			}
+			if (lastReturned == nextSlot) {
+				// removed by previous(): the cursor now sits before its successor
+				nextSlot = next[nextSlot];
+			} else {
+				nextIndex--;
+			}
+			unlink(lastReturned);
+			lastReturned = NIL;
+			iterModCount = modCount;
+		}
+
+		@Override
+		public void set(E e) {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (lastReturned == NIL) {
+				throw new IllegalStateException();
+			}
+			elements[lastReturned] = e;
+			iterModCount = ++modCount;
+		}
+
+		@Override
+		public void add(E e) {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			linkBefore(nextSlot, e);
+			nextIndex++;
+			lastReturned = NIL;
+			iterModCount = modCount;
+		}
+	}
+}
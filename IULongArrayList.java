@@ -0,0 +1,448 @@
+import java.util.*;
+
+/**
+ * Array-based implementation of IndexedUnsortedList specialized for long.
+ * Elements live unboxed in a long[] circular buffer laid out like IUArrayList.
+ * The primitive overloads (addToRear(long), getLong(i), indexOf(long), ...)
+ * never allocate; the IndexedUnsortedList&lt;Long&gt; methods box and unbox
+ * at the boundary. Null elements are not supported.
+ */
+public class IULongArrayList implements IndexedUnsortedList<Long>, RandomAccess {
+	private static final int DEFAULT_CAPACITY = 10;
+	private static final int NOT_FOUND = -1;
+
+	private long[] array;
+	private int front; // array slot of the element at logical index 0
+	private int rear; // logical index one past the last element (the size)
+	private int modCount;
+
+	/** Creates an empty list with default initial capacity */
+	public IULongArrayList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates an empty list with the given initial capacity
+	 * @param initialCapacity
+	 */
+	public IULongArrayList(int initialCapacity) {
+		array = new long[Math.max(1, initialCapacity)];
+		front = 0;
+		rear = 0;
+		modCount = 0;
+	}
+
+	/** Double the capacity of array, unwrapping the elements to start at slot 0 */
+	private void expandCapacity() {
+		long[] larger = new long[array.length * 2];
+		int firstRun = Math.min(rear, array.length - front);
+		System.arraycopy(array, front, larger, 0, firstRun);
+		System.arraycopy(array, 0, larger, firstRun, rear - firstRun);
+		array = larger;
+		front = 0;
+	}
+
+	/**
+	 * Translates a logical index into its array slot
+	 * @param index logical index, 0 <= index < array.length
+	 * @return slot in array holding that position
+	 */
+	private int slot(int index) {
+		int slot = front + index;
+		return (slot >= array.length) ? slot - array.length : slot;
+	}
+
+	// Primitive operations
+
+	public void addToFront(long element) {
+		addElement(0, element);
+		modCount++;
+	}
+
+	public void addToRear(long element) {
+		addElement(rear, element);
+		modCount++;
+	}
+
+	public void add(long element) {
+		addToRear(element);
+	}
+
+	public void addAfter(long element, long target) {
+		int index = indexOf(target);
+		if (index == NOT_FOUND) {
+			throw new NoSuchElementException();
+		}
+		addElement(index + 1, element);
+		modCount++;
+	}
+
+	public void add(int index, long element) {
+		addElement(index, element);
+		modCount++;
+	}
+
+	public long removeFirstLong() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		modCount++;
+		return removeElement(0);
+	}
+
+	public long removeLastLong() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		modCount++;
+		return removeElement(rear - 1);
+	}
+
+	/**
+	 * Removes the first occurrence of element
+	 * @param element value to remove
+	 * @return the removed value
+	 * @throws NoSuchElementException if element is not in the list
+	 */
+	public long removeValue(long element) {
+		int index = indexOf(element);
+		if (index == NOT_FOUND) {
+			throw new NoSuchElementException();
+		}
+		modCount++;
+		return removeElement(index);
+	}
+
+	/**
+	 * Removes the element at index
+	 * @param index position to remove
+	 * @return the removed value
+	 */
+	public long removeLong(int index) {
+		modCount++;
+		return removeElement(index);
+	}
+
+	public void set(int index, long element) {
+		if (index < 0 || index >= rear) {
+			throw new IndexOutOfBoundsException();
+		}
+		array[slot(index)] = element;
+		modCount++;
+	}
+
+	public long getLong(int index) {
+		if (index < 0 || index >= rear) {
+			throw new IndexOutOfBoundsException();
+		}
+		return array[slot(index)];
+	}
+
+	public int indexOf(long element) {
+		for (int i = 0; i < rear; i++) {
+			if (array[slot(i)] == element) {
+				return i;
+			}
+		}
+		return NOT_FOUND;
+	}
+
+	public long firstLong() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return array[front];
+	}
+
+	public long lastLong() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return array[slot(rear - 1)];
+	}
+
+	public boolean contains(long target) {
+		return indexOf(target) != NOT_FOUND;
+	}
+
+	/** @return a new array holding the elements in list order */
+	public long[] toLongArray() {
+		long[] result = new long[rear];
+		int firstRun = Math.min(rear, array.length - front);
+		System.arraycopy(array, front, result, 0, firstRun);
+		System.arraycopy(array, 0, result, firstRun, rear - firstRun);
+		return result;
+	}
+
+	// IndexedUnsortedList<Long> view
+
+	@Override
+	public void addToFront(Long element) {
+		addToFront(element.longValue());
+	}
+
+	@Override
+	public void addToRear(Long element) {
+		addToRear(element.longValue());
+	}
+
+	@Override
+	public void add(Long element) {
+		addToRear(element.longValue());
+	}
+
+	@Override
+	public void addAfter(Long element, Long target) {
+		if (target == null) {
+			throw new NoSuchElementException();
+		}
+		addAfter(element.longValue(), target.longValue());
+	}
+
+	@Override
+	public void add(int index, Long element) {
+		add(index, element.longValue());
+	}
+
+	@Override
+	public Long removeFirst() {
+		return removeFirstLong();
+	}
+
+	@Override
+	public Long removeLast() {
+		return removeLastLong();
+	}
+
+	@Override
+	public Long remove(Long element) {
+		if (element == null) {
+			throw new NoSuchElementException();
+		}
+		return removeValue(element.longValue());
+	}
+
+	@Override
+	public Long remove(int index) {
+		return removeLong(index);
+	}
+
+	@Override
+	public void set(int index, Long element) {
+		set(index, element.longValue());
+	}
+
+	@Override
+	public Long get(int index) {
+		return getLong(index);
+	}
+
+	@Override
+	public int indexOf(Long element) {
+		return (element == null) ? NOT_FOUND : indexOf(element.longValue());
+	}
+
+	@Override
+	public Long first() {
+		return firstLong();
+	}
+
+	@Override
+	public Long last() {
+		return lastLong();
+	}
+
+	@Override
+	public boolean contains(Long target) {
+		return indexOf(target) != NOT_FOUND;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return rear == 0;
+	}
+
+	@Override
+	public int size() {
+		return rear;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder result = new StringBuilder("[");
+		for (int i = 0; i < rear; i++) {
+			result.append(array[slot(i)]);
+			if (i < rear - 1) {
+				result.append(", ");
+			}
+		}
+		return result.append("]").toString();
+	}
+
+	// Helper methods
+
+	private long removeElement(int index) {
+		if (index < 0 || index >= rear) { throw new IndexOutOfBoundsException(); }
+		long result = array[slot(index)];
+
+		// shift whichever side of index is shorter
+		if (index < rear - 1 - index) {
+			for (int i = index; i > 0; i--) {
+				array[slot(i)] = array[slot(i - 1)];
+			}
+			front = slot(1);
+		} else {
+			for (int i = index; i < rear - 1; i++) {
+				array[slot(i)] = array[slot(i + 1)];
+			}
+		}
+		rear--;
+
+		return result;
+	}
+
+	private void addElement(int index, long element) {
+		if (index > rear || index < 0) { throw new IndexOutOfBoundsException(); }
+		if (rear == array.length) { expandCapacity(); }
+
+		// shift whichever side of index is shorter
+		if (index < rear - index) {
+			front = (front == 0) ? array.length - 1 : front - 1;
+			for (int i = 0; i < index; i++) {
+				array[slot(i)] = array[slot(i + 1)];
+			}
+		} else {
+			for (int i = rear; i > index; i--) {
+				array[slot(i)] = array[slot(i - 1)];
+			}
+		}
+
+		array[slot(index)] = element;
+		rear++;
+	}
+
+	@Override
+	public Iterator<Long> iterator() {
+		return new LongListIterator(0);
+	}
+
+	@Override
+	public ListIterator<Long> listIterator() {
+		return new LongListIterator(0);
+	}
+
+	@Override
+	public ListIterator<Long> listIterator(int startingIndex) {
+		if (startingIndex < 0 || startingIndex > rear) {
+			throw new IndexOutOfBoundsException();
+		}
+		return new LongListIterator(startingIndex);
+	}
+
+	/**
+	 * ListIterator for IULongArrayList, tracking positions by logical index
+	 */
+	private class LongListIterator implements ListIterator<Long> {
+		private int nextIndex;
+		private int lastReturned; // index of last element returned by next() or previous()
+		private int iterModCount;
+
+		/**
+		 * creates a new list iterator starting at the specified index
+		 * @param startingIndex index at which to start the iterator
+		 */
+		public LongListIterator(int startingIndex) {
+			nextIndex = startingIndex;
+			lastReturned = NOT_FOUND;
+			iterModCount = modCount;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex < rear;
+		}
+
+		@Override
+		public Long next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = nextIndex++;
+			return array[slot(lastReturned)];
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex > 0;
+		}
+
+		@Override
+		public Long previous() {
+			if (!hasPrevious()) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = --nextIndex;
+			return array[slot(lastReturned)];
+		}
+
+		@Override
+		public int nextIndex() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex;
+		}
+
+		@Override
+		public int previousIndex() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex - 1;
+		}
+
+		@Override
+		public void remove() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (lastReturned == NOT_FOUND) {
+				throw new IllegalStateException();
+			}
+			removeElement(lastReturned);
+			if (lastReturned < nextIndex) {
+				nextIndex--;
+			}
+			lastReturned = NOT_FOUND;
+			iterModCount = ++modCount;
+		}
+
+		@Override
+		public void set(Long e) {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (lastReturned == NOT_FOUND) {
+				throw new IllegalStateException();
+			}
+			array[slot(lastReturned)] = e;
+			iterModCount = ++modCount;
+		}
+
+		@Override
+		public void add(Long e) {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			addElement(nextIndex++, e);
+			lastReturned = NOT_FOUND;
+			iterModCount = ++modCount;
+		}
+	}
+}
@@ -0,0 +1,436 @@
+import java.util.*;
+
+/**
+ * Indexable skip list implementation of IndexedUnsortedList.
+ * Elements are kept in list order on level 0, a double-linked chain, and
+ * each node is also linked into a random number of higher express levels.
+ * Every forward link records its width, the number of level-0 steps it
+ * skips, so a position is found by descending the levels and adding up
+ * widths. get, set, add(int, E) and remove(int) are expected O(log n);
+ * iteration walks level 0 and is O(1) per step.
+ *
+ * @param <E> type to store
+ */
+public class IUSkipList<E> implements IndexedUnsortedList<E> {
+	private static final int MAX_LEVEL = 32;
+	private static final int NOT_FOUND = -1;
+
+	private final Node<E> head; // sentinel at position 0, linked on every level
+	private Node<E> tail;
+	private int level; // levels in use; head links above this are stale
+	private int size;
+	private int modCount;
+	private final Random random;
+	private final Node<E>[] update; // scratch: last node before the target on each level
+	private final int[] rank; // scratch: position of update[i]
+
+	/** Creates an empty list */
+	@SuppressWarnings("unchecked")
+	public IUSkipList() {
+		head = new Node<E>(null, MAX_LEVEL);
+		// with no elements, level 0 of head links straight to the end at position 1
+		head.width[0] = 1;
+		tail = null;
+		level = 1;
+		size = 0;
+		modCount = 0;
+		random = new Random();
+		update = (Node<E>[])(new Node<?>[MAX_LEVEL]);
+		rank = new int[MAX_LEVEL];
+	}
+
+	/**
+	 * @return a level between 1 and MAX_LEVEL, each further level with probability 1/2
+	 */
+	private int randomLevel() {
+		// trailing zeros of a random int are geometrically distributed
+		return Integer.numberOfTrailingZeros(random.nextInt() | (1 << (MAX_LEVEL - 1))) + 1;
+	}
+
+	/**
+	 * Fills update and rank with the last node on each level whose position
+	 * is at most target, descending from the top level
+	 * @param target 1-based position to stop at or before
+	 * @return the level-0 node at position target, head when target is 0
+	 */
+	private Node<E> findPredecessors(int target) {
+		Node<E> x = head;
+		int position = 0;
+		for (int i = level - 1; i >= 0; i--) {
+			while (x.next[i] != null && position + x.width[i] <= target) {
+				position += x.width[i];
+				x = x.next[i];
+			}
+			update[i] = x;
+			rank[i] = position;
+		}
+		return x;
+	}
+
+	/**
+	 * @param index valid index, 0 <= index < size
+	 * @return the node at index
+	 */
+	private Node<E> nodeAt(int index) {
+		Node<E> x = head;
+		int position = 0;
+		int target = index + 1;
+		for (int i = level - 1; i >= 0; i--) {
+			while (x.next[i] != null && position + x.width[i] <= target) {
+				position += x.width[i];
+				x = x.next[i];
+			}
+			if (position == target) {
+				break;
+			}
+		}
+		return x;
+	}
+
+	@Override
+	public void addToFront(E element) {
+		addElement(0, element);
+	}
+
+	@Override
+	public void addToRear(E element) {
+		addElement(size, element);
+	}
+
+	@Override
+	public void add(E element) {
+		addToRear(element);
+	}
+
+	@Override
+	public void addAfter(E element, E target) {
+		int index = indexOf(target);
+		if (index == NOT_FOUND) {
+			throw new NoSuchElementException();
+		}
+		addElement(index + 1, element);
+	}
+
+	@Override
+	public void add(int index, E element) {
+		addElement(index, element);
+	}
+
+	@Override
+	public E removeFirst() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return removeElement(0);
+	}
+
+	@Override
+	public E removeLast() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return removeElement(size - 1);
+	}
+
+	@Override
+	public E remove(E element) {
+		int index = indexOf(element);
+		if (index == NOT_FOUND) {
+			throw new NoSuchElementException();
+		}
+		return removeElement(index);
+	}
+
+	@Override
+	public E remove(int index) {
+		return removeElement(index);
+	}
+
+	@Override
+	public void set(int index, E element) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+		nodeAt(index).element = element;
+		modCount++;
+	}
+
+	@Override
+	public E get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+		return nodeAt(index).element;
+	}
+
+	@Override
+	public int indexOf(E element) {
+		int index = 0;
+		for (Node<E> current = head.next[0]; current != null; current = current.next[0]) {
+			if (element.equals(current.element)) {
+				return index;
+			}
+			index++;
+		}
+		return NOT_FOUND;
+	}
+
+	@Override
+	public E first() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return head.next[0].element;
+	}
+
+	@Override
+	public E last() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return tail.element;
+	}
+
+	@Override
+	public boolean contains(E target) {
+		return indexOf(target) != NOT_FOUND;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder result = new StringBuilder("[");
+		for (Node<E> current = head.next[0]; current != null; current = current.next[0]) {
+			result.append(current.element);
+			if (current.next[0] != null) {
+				result.append(", ");
+			}
+		}
+		return result.append("]").toString();
+	}
+
+	// Helper methods
+
+	private E removeElement(int index) {
+		if (index < 0 || index >= size) { throw new IndexOutOfBoundsException(); }
+		findPredecessors(index);
+		Node<E> target = update[0].next[0];
+
+		for (int i = 0; i < level; i++) {
+			if (update[i].next[i] == target) {
+				update[i].width[i] += target.width[i] - 1;
+				update[i].next[i] = target.next[i];
+			} else {
+				update[i].width[i]--;
+			}
+		}
+		Node<E> successor = target.next[0];
+		if (successor == null) {
+			tail = target.prev;
+		} else {
+			successor.prev = target.prev;
+		}
+		while (level > 1 && head.next[level - 1] == null) {
+			level--;
+		}
+
+		size--;
+		modCount++;
+		return target.element;
+	}
+
+	private void addElement(int index, E element) {
+		if (index < 0 || index > size) { throw new IndexOutOfBoundsException(); }
+		findPredecessors(index);
+		Node<E> newNode = new Node<E>(element, randomLevel());
+		while (level < newNode.next.length) {
+			// open a new level: head links straight to the end
+			update[level] = head;
+			rank[level] = 0;
+			head.width[level] = size + 1;
+			level++;
+		}
+
+		for (int i = 0; i < level; i++) {
+			if (i < newNode.next.length) {
+				// split the link over the new position into two
+				newNode.next[i] = update[i].next[i];
+				newNode.width[i] = update[i].width[i] - (index - rank[i]);
+				update[i].next[i] = newNode;
+				update[i].width[i] = index + 1 - rank[i];
+			} else {
+				update[i].width[i]++;
+			}
+		}
+		newNode.prev = (update[0] == head) ? null : update[0];
+		if (newNode.next[0] == null) {
+			tail = newNode;
+		} else {
+			newNode.next[0].prev = newNode;
+		}
+
+		size++;
+		modCount++;
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return new SkipListIterator(0);
+	}
+
+	@Override
+	public ListIterator<E> listIterator() {
+		return new SkipListIterator(0);
+	}
+
+	@Override
+	public ListIterator<E> listIterator(int startingIndex) {
+		if (startingIndex < 0 || startingIndex > size) {
+			throw new IndexOutOfBoundsException();
+		}
+		return new SkipListIterator(startingIndex);
+	}
+
+	/**
+	 * Skip list node linked into levels 0 through next.length - 1
+	 */
+	private static class Node<E> {
+		private E element;
+		private final Node<E>[] next;
+		private final int[] width; // level-0 steps covered by each forward link
+		private Node<E> prev; // level-0 back link, null for the first element
+
+		@SuppressWarnings("unchecked")
+		private Node(E element, int level) {
+			this.element = element;
+			next = (Node<E>[])(new Node<?>[level]);
+			width = new int[level];
+			prev = null;
+		}
+	}
+
+	/**
+	 * ListIterator for IUSkipList, stepping along level 0
+	 */
+	private class SkipListIterator implements ListIterator<E> {
+		private Node<E> nextNode; // node that would be returned by next()
+		private Node<E> lastReturned; // last node returned by next() or previous()
+		private int nextIndex;
+		private int iterModCount;
+
+		/**
+		 * creates a new list iterator starting at the specified index
+		 * @param startingIndex index at which to start the iterator
+		 */
+		public SkipListIterator(int startingIndex) {
+			nextNode = (startingIndex == size) ? null : nodeAt(startingIndex);
+			lastReturned = null;
+			nextIndex = startingIndex;
+			iterModCount = modCount;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextNode != null;
+		}
+
+		@Override
+		public E next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = nextNode;
+			nextNode = nextNode.next[0];
+			nextIndex++;
+			return lastReturned.element;
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex > 0;
+		}
+
+		@Override
+		public E previous() {
+			if (!hasPrevious()) {
+				throw new NoSuchElementException();
+			}
+			nextNode = (nextNode == null) ? tail : nextNode.prev;
+			lastReturned = nextNode;
+			nextIndex--;
+			return lastReturned.element;
+		}
+
+		@Override
+		public int nextIndex() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex;
+		}
+
+		@Override
+		public int previousIndex() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex - 1;
+		}
+
+		@Override
+		public void remove() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (lastReturned == null) {
+				throw new IllegalStateException();
+			}
+			if (lastReturned == nextNode) {
+				// removed by previous(): the cursor now sits before its successor
+				nextNode = nextNode.next[0];
+				removeElement(nextIndex);
+			} else {
+				removeElement(--nextIndex);
+			}
+			lastReturned = null;
+			iterModCount = modCount;
+		}
+
+		@Override
+		public void set(E e) {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (lastReturned == null) {
+				throw new IllegalStateException();
+			}
+			lastReturned.element = e;
+			iterModCount = ++modCount;
+		}
+
+		@Override
+		public void add(E e) {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			addElement(nextIndex++, e);
+			lastReturned = null;
+			iterModCount = modCount;
+		}
+	}
+}
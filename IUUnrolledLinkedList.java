@@ -0,0 +1,516 @@
+import java.util.*;
+
+/**
+ * Unrolled double-linked implementation of IndexedUnsortedList.
+ * Each node holds a small array of up to chunkCapacity elements, so
+ * iteration, indexOf and toString scan contiguous memory instead of
+ * chasing one pointer per element. A full node splits in half on insert,
+ * except that adding past either end of the list starts a new node, so
+ * sequential adds leave every node full; a node that falls below half
+ * full merges with a neighbor when the two fit in one node, so every node
+ * but the last few stays at least half full. ListIterator adds and
+ * removes work on the iterator's node directly and cost O(chunkCapacity).
+ *
+ * @param <E> type to store
+ */
+public class IUUnrolledLinkedList<E> implements IndexedUnsortedList<E> {
+	private static final int DEFAULT_CHUNK_CAPACITY = 64;
+	private static final int MINIMUM_CHUNK_CAPACITY = 4;
+	private static final int NOT_FOUND = -1;
+
+	private final int chunkCapacity;
+	private Chunk<E> head, tail;
+	private int size;
+	private int modCount;
+	private int foundOffset; // offset within the chunk returned by the last chunkFor, insertAt or removeAt
+
+	/** Creates an empty list with the default chunk capacity */
+	public IUUnrolledLinkedList() {
+		this(DEFAULT_CHUNK_CAPACITY);
+	}
+
+	/**
+	 * Creates an empty list whose nodes hold up to chunkCapacity elements
+	 * @param chunkCapacity elements per node, at least 4
+	 */
+	public IUUnrolledLinkedList(int chunkCapacity) {
+		this.chunkCapacity = Math.max(MINIMUM_CHUNK_CAPACITY, chunkCapacity);
+		head = tail = null;
+		size = 0;
+		modCount = 0;
+	}
+
+	/**
+	 * Finds the chunk holding a position, walking from the nearer end.
+	 * The offset of the position within that chunk is left in foundOffset.
+	 * @param index position, 0 <= index <= size; index == size gives the end of tail
+	 * @return chunk holding the position, null only when the list is empty
+	 */
+	private Chunk<E> chunkFor(int index) {
+		Chunk<E> chunk;
+		if (index == size) {
+			chunk = tail;
+			foundOffset = (tail == null) ? 0 : tail.count;
+		} else if (index < size / 2) {
+			chunk = head;
+			while (index >= chunk.count) {
+				index -= chunk.count;
+				chunk = chunk.next;
+			}
+			foundOffset = index;
+		} else {
+			chunk = tail;
+			int fromEnd = size - index;
+			while (fromEnd > chunk.count) {
+				fromEnd -= chunk.count;
+				chunk = chunk.prev;
+			}
+			foundOffset = chunk.count - fromEnd;
+		}
+		return chunk;
+	}
+
+	/**
+	 * Inserts element at a position, splitting the chunk first if it is full.
+	 * A full head or tail chunk that the element would go in front of or
+	 * after is left full and a new chunk is started instead.
+	 * The offset of the new element is left in foundOffset.
+	 * @param chunk chunk holding the position, null if the list is empty
+	 * @param offset position within chunk, 0 <= offset <= chunk.count
+	 * @param element element to insert
+	 * @return chunk now holding the new element
+	 */
+	private Chunk<E> insertAt(Chunk<E> chunk, int offset, E element) {
+		if (chunk == null) {
+			chunk = new Chunk<E>(chunkCapacity);
+			head = tail = chunk;
+		} else if (chunk.count == chunkCapacity && chunk == tail && offset == chunk.count) {
+			Chunk<E> newTail = new Chunk<E>(chunkCapacity);
+			linkAfter(chunk, newTail);
+			chunk = newTail;
+			offset = 0;
+		} else if (chunk.count == chunkCapacity && chunk == head && offset == 0) {
+			Chunk<E> newHead = new Chunk<E>(chunkCapacity);
+			newHead.next = head;
+			head.prev = newHead;
+			head = newHead;
+			chunk = newHead;
+		} else if (chunk.count == chunkCapacity) {
+			// move the upper half into a new chunk after this one
+			int half = chunkCapacity / 2;
+			Chunk<E> upper = new Chunk<E>(chunkCapacity);
+			System.arraycopy(chunk.items, half, upper.items, 0, chunk.count - half);
+			Arrays.fill(chunk.items, half, chunk.count, null);
+			upper.count = chunk.count - half;
+			chunk.count = half;
+			linkAfter(chunk, upper);
+			if (offset > half) {
+				chunk = upper;
+				offset -= half;
+			}
+		}
+
+		System.arraycopy(chunk.items, offset, chunk.items, offset + 1, chunk.count - offset);
+		chunk.items[offset] = element;
+		chunk.count++;
+		size++;
+		modCount++;
+
+		foundOffset = offset;
+		return chunk;
+	}
+
+	/**
+	 * Removes the element at a position, unlinking the chunk if it empties
+	 * and merging it with a neighbor if it falls below half full. The
+	 * position of the element that followed the removed one is returned as
+	 * a chunk and foundOffset.
+	 * @param chunk chunk holding the element
+	 * @param offset position within chunk, 0 <= offset < chunk.count
+	 * @return chunk now holding the following position, null if the list became empty
+	 */
+	private Chunk<E> removeAt(Chunk<E> chunk, int offset) {
+		System.arraycopy(chunk.items, offset + 1, chunk.items, offset, chunk.count - offset - 1);
+		chunk.count--;
+		chunk.items[chunk.count] = null;
+		size--;
+		modCount++;
+
+		if (chunk.count == 0) {
+			unlink(chunk);
+			if (chunk.next != null) {
+				foundOffset = 0;
+				return chunk.next;
+			}
+			foundOffset = (chunk.prev == null) ? 0 : chunk.prev.count;
+			return chunk.prev;
+		}
+
+		if (chunk.count < chunkCapacity / 2) {
+			Chunk<E> next = chunk.next;
+			Chunk<E> prev = chunk.prev;
+			if (next != null && chunk.count + next.count <= chunkCapacity) {
+				// absorb the next chunk
+				System.arraycopy(next.items, 0, chunk.items, chunk.count, next.count);
+				chunk.count += next.count;
+				unlink(next);
+			} else if (prev != null && prev.count + chunk.count <= chunkCapacity) {
+				// let the previous chunk absorb this one
+				System.arraycopy(chunk.items, 0, prev.items, prev.count, chunk.count);
+				offset += prev.count;
+				prev.count += chunk.count;
+				unlink(chunk);
+				chunk = prev;
+			}
+		}
+
+		foundOffset = offset;
+		return chunk;
+	}
+
+	/** Links newChunk into the list directly after chunk */
+	private void linkAfter(Chunk<E> chunk, Chunk<E> newChunk) {
+		newChunk.prev = chunk;
+		newChunk.next = chunk.next;
+		if (chunk.next == null) {
+			tail = newChunk;
+		} else {
+			chunk.next.prev = newChunk;
+		}
+		chunk.next = newChunk;
+	}
+
+	/** Unlinks chunk, leaving its own prev and next intact for the caller */
+	private void unlink(Chunk<E> chunk) {
+		if (chunk.prev == null) {
+			head = chunk.next;
+		} else {
+			chunk.prev.next = chunk.next;
+		}
+		if (chunk.next == null) {
+			tail = chunk.prev;
+		} else {
+			chunk.next.prev = chunk.prev;
+		}
+	}
+
+	@Override
+	public void addToFront(E element) {
+		addElement(0, element);
+	}
+
+	@Override
+	public void addToRear(E element) {
+		addElement(size, element);
+	}
+
+	@Override
+	public void add(E element) {
+		addToRear(element);
+	}
+
+	@Override
+	public void addAfter(E element, E target) {
+		int index = indexOf(target);
+		if (index == NOT_FOUND) {
+			throw new NoSuchElementException();
+		}
+		addElement(index + 1, element);
+	}
+
+	@Override
+	public void add(int index, E element) {
+		addElement(index, element);
+	}
+
+	@Override
+	public E removeFirst() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return removeElement(0);
+	}
+
+	@Override
+	public E removeLast() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return removeElement(size - 1);
+	}
+
+	@Override
+	public E remove(E element) {
+		int index = indexOf(element);
+		if (index == NOT_FOUND) {
+			throw new NoSuchElementException();
+		}
+		return removeElement(index);
+	}
+
+	@Override
+	public E remove(int index) {
+		return removeElement(index);
+	}
+
+	@Override
+	public void set(int index, E element) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+		Chunk<E> chunk = chunkFor(index);
+		chunk.items[foundOffset] = element;
+		modCount++;
+	}
+
+	@Override
+	public E get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+		Chunk<E> chunk = chunkFor(index);
+		return chunk.get(foundOffset);
+	}
+
+	@Override
+	public int indexOf(E element) {
+		int base = 0;
+		for (Chunk<E> chunk = head; chunk != null; chunk = chunk.next) {
+			Object[] items = chunk.items;
+			for (int i = 0; i < chunk.count; i++) {
+				if (element.equals(items[i])) {
+					return base + i;
+				}
+			}
+			base += chunk.count;
+		}
+		return NOT_FOUND;
+	}
+
+	@Override
+	public E first() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return head.get(0);
+	}
+
+	@Override
+	public E last() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return tail.get(tail.count - 1);
+	}
+
+	@Override
+	public boolean contains(E target) {
+		return indexOf(target) != NOT_FOUND;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder result = new StringBuilder("[");
+		for (Chunk<E> chunk = head; chunk != null; chunk = chunk.next) {
+			for (int i = 0; i < chunk.count; i++) {
+				result.append(chunk.items[i]);
+				if (chunk.next != null || i < chunk.count - 1) {
+					result.append(", ");
+				}
+			}
+		}
+		return result.append("]").toString();
+	}
+
+	// Helper methods
+
+	private E removeElement(int index) {
+		if (index < 0 || index >= size) { throw new IndexOutOfBoundsException(); }
+		Chunk<E> chunk = chunkFor(index);
+		E result = chunk.get(foundOffset);
+		removeAt(chunk, foundOffset);
+		return result;
+	}
+
+	private void addElement(int index, E element) {
+		if (index < 0 || index > size) { throw new IndexOutOfBoundsException(); }
+		Chunk<E> chunk = chunkFor(index);
+		insertAt(chunk, foundOffset, element);
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return new UnrolledListIterator(0);
+	}
+
+	@Override
+	public ListIterator<E> listIterator() {
+		return new UnrolledListIterator(0);
+	}
+
+	@Override
+	public ListIterator<E> listIterator(int startingIndex) {
+		if (startingIndex < 0 || startingIndex > size) {
+			throw new IndexOutOfBoundsException();
+		}
+		return new UnrolledListIterator(startingIndex);
+	}
+
+	/**
+	 * Node of the unrolled list, holding up to chunkCapacity elements
+	 */
+	private static class Chunk<E> {
+		private final Object[] items;
+		private int count;
+		private Chunk<E> prev, next;
+
+		private Chunk(int capacity) {
+			items = new Object[capacity];
+			count = 0;
+		}
+
+		@SuppressWarnings("unchecked")
+		private E get(int offset) {
+			return (E)items[offset];
+		}
+	}
+
+	/**
+	 * ListIterator for IUUnrolledLinkedList. The cursor is a chunk and an
+	 * offset into it, so stepping, adding and removing never walk the list.
+	 */
+	private class UnrolledListIterator implements ListIterator<E> {
+		private Chunk<E> chunk; // chunk holding the cursor, null only while the list is empty
+		private int offset; // cursor position in chunk, 0 <= offset <= chunk.count
+		private Chunk<E> lastChunk; // chunk of last element returned by next() or previous()
+		private int lastOffset;
+		private int nextIndex;
+		private int iterModCount;
+
+		/**
+		 * creates a new list iterator starting at the specified index
+		 * @param startingIndex index at which to start the iterator
+		 */
+		public UnrolledListIterator(int startingIndex) {
+			chunk = chunkFor(startingIndex);
+			offset = foundOffset;
+			lastChunk = null;
+			nextIndex = startingIndex;
+			iterModCount = modCount;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex < size;
+		}
+
+		@Override
+		public E next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			if (offset == chunk.count) {
+				chunk = chunk.next;
+				offset = 0;
+			}
+			lastChunk = chunk;
+			lastOffset = offset++;
+			nextIndex++;
+			return lastChunk.get(lastOffset);
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex > 0;
+		}
+
+		@Override
+		public E previous() {
+			if (!hasPrevious()) {
+				throw new NoSuchElementException();
+			}
+			if (offset == 0) {
+				chunk = chunk.prev;
+				offset = chunk.count;
+			}
+			lastChunk = chunk;
+			lastOffset = --offset;
+			nextIndex--;
+			return lastChunk.get(lastOffset);
+		}
+
+		@Override
+		public int nextIndex() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex;
+		}
+
+		@Override
+		public int previousIndex() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex - 1;
+		}
+
+		@Override
+		public void remove() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (lastChunk == null) {
+				throw new IllegalStateException();
+			}
+			// after next() the removed element was just behind the cursor
+			if (lastChunk != chunk || lastOffset != offset) {
+				nextIndex--;
+			}
+			chunk = removeAt(lastChunk, lastOffset);
+			offset = foundOffset;
+			lastChunk = null;
+			iterModCount = modCount;
+		}
+
+		@Override
+		public void set(E e) {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (lastChunk == null) {
+				throw new IllegalStateException();
+			}
+			lastChunk.items[lastOffset] = e;
+			iterModCount = ++modCount;
+		}
+
+		@Override
+		public void add(E e) {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			chunk = insertAt(chunk, offset, e);
+			offset = foundOffset + 1;
+			nextIndex++;
+			lastChunk = null;
+			iterModCount = modCount;
+		}
+	}
+}
@@ -1,7 +1,18 @@
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.function.Predicate;
 
 /**
  * A unit test class for lists that implement IndexedUnsortedList. 
@@ -16,7 +27,15 @@ import java.util.NoSuchElementException;
 public class ListTester {
 	//possible lists that could be tested
 	private static enum ListToUse {
-		goodList, badList, arrayList, singleLinkedList, doubleLinkedList
+		goodList, badList, arrayList, singleLinkedList, doubleLinkedList,
+		intArrayList,
+		gapArrayList,
+		chunkedArrayList,
+		mappedArrayList,
+		unrolledLinkedList,
+		skipList,
+		stampedLockList,
+		indexLinkedList
 	};
 	// TODO: THIS IS WHERE YOU CHOOSE WHICH LIST TO TEST
 	private final static ListToUse LIST_TO_USE = ListToUse.doubleLinkedList;
@@ -25,6 +44,7 @@ public class ListTester {
 	private enum Result {
 		IndexOutOfBounds, IllegalState, NoSuchElement, 
 		ConcurrentModification, UnsupportedOperation, 
+		IllegalArgument, IO,
 		NoException, UnexpectedException,
 		True, False, Pass, Fail, 
 		MatchingValue,
@@ -51,6 +71,10 @@ public class ListTester {
 	private int secPasses = 0;
 	private int secFails = 0;
 
+	//file-backed lists opened by newMappedList(), closed after each section
+	private final ArrayList<Closeable> openLists = new ArrayList<Closeable>();
+	private final ArrayList<File> openFiles = new ArrayList<File>();
+
 	//control output - modified by command-line args
 	private boolean printFailuresOnly = true;
 	private boolean showToString = true;
@@ -82,7 +106,16 @@ public class ListTester {
 				printSectionSummaries = false;
 		}
 		switch (LIST_TO_USE) {
+		case arrayList:
 		case doubleLinkedList:
+		case intArrayList:
+		case gapArrayList:
+		case chunkedArrayList:
+		case mappedArrayList:
+		case unrolledLinkedList:
+		case skipList:
+		case stampedLockList:
+		case indexLinkedList:
 			SUPPORTS_LIST_ITERATOR = true;
 			break;
 		default:
@@ -295,6 +328,22 @@ public class ListTester {
 			test_ListIterConcurrency();
 		}
 
+		//Tests of features beyond the IndexedUnsortedList interface
+		if (LIST_TO_USE == ListToUse.arrayList) {
+			test_ArrayListPositionIndex();
+			test_ArrayListCapacity();
+			test_ArrayListBulkOps();
+			test_ParallelSort();
+		}
+		if (LIST_TO_USE == ListToUse.mappedArrayList) {
+			test_MappedArrayListFile();
+		}
+		if (LIST_TO_USE == ListToUse.doubleLinkedList) {
+			test_DoubleLinkedListSort();
+			test_DoubleLinkedListSplice();
+			test_DoubleLinkedListReversed();
+		}
+
 		// report final verdict
 		printFinalSummary();
 	}
@@ -321,21 +370,82 @@ public class ListTester {
 		case badList:
 			listToUse = new BadList<Integer>();
 			break;
-		case arrayList:
-			listToUse = new IUArrayList<Integer>();
-			break;
 		case singleLinkedList:
 			listToUse = new IUSingleLinkedList<Integer>();
 			break;
 		*/
+		case arrayList:
+			listToUse = new IUArrayList<Integer>();
+			break;
 		case doubleLinkedList:
 			listToUse = new IUDoubleLinkedList<Integer>();
 			break;
+		case intArrayList:
+			listToUse = new IUIntArrayList();
+			break;
+		case gapArrayList:
+			listToUse = new IUGapArrayList<Integer>();
+			break;
+		case chunkedArrayList:
+			listToUse = new IUChunkedArrayList<Integer>();
+			break;
+		case mappedArrayList:
+			listToUse = newMappedList();
+			break;
+		case unrolledLinkedList:
+			listToUse = new IUUnrolledLinkedList<Integer>();
+			break;
+		case skipList:
+			listToUse = new IUSkipList<Integer>();
+			break;
+		case stampedLockList:
+			listToUse = new StampedLockList<Integer>(new IUDoubleLinkedList<Integer>());
+			break;
+		case indexLinkedList:
+			listToUse = new IUIndexLinkedList<Integer>();
+			break;
 		default:
 			listToUse = null;
 		}
 		return listToUse;
 	}
+
+	/**
+	 * Opens a MappedIUArrayList on a fresh temporary file. The list is
+	 * closed and the file deleted by the next closeOpenLists().
+	 * @return new empty file-backed list
+	 */
+	private IndexedUnsortedList<Integer> newMappedList() {
+		try {
+			File file = File.createTempFile("ListTester", ".dat");
+			file.deleteOnExit();
+			MappedIUArrayList<Integer> list = new MappedIUArrayList<Integer>(file.toPath(), FixedWidthCodec.INTEGER, 1024);
+			openLists.add(list);
+			openFiles.add(file);
+			return list;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Closes every file-backed list opened since the last call and deletes
+	 * its file, so a full run doesn't exhaust file descriptors
+	 */
+	private void closeOpenLists() {
+		for (Closeable list : openLists) {
+			try {
+				list.close();
+			} catch (IOException e) {
+				System.out.printf("%s caught unexpected %s\n", "closeOpenLists", e.toString());
+			}
+		}
+		for (File file : openFiles) {
+			file.delete();
+		}
+		openLists.clear();
+		openFiles.clear();
+	}
 	// The following creates a "lambda" reference that allows us to pass a scenario
 	//  builder method as an argument. We covered in lecture how it works - however, if you are
 	//  struggling with it, just make sure each scenario building method has a corresponding Scenario 
@@ -920,6 +1030,7 @@ private Scenario<Integer> ABC_listIterator2_previousSetD_ADC = () -> ABC_listIte
 			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", scenarioName + " TESTS");
 			e.printStackTrace();
 		} finally {
+			closeOpenLists();
 			if (printSectionSummaries) {
 				printSectionSummary();
 			}
@@ -1021,6 +1132,7 @@ private Scenario<Integer> ABC_listIterator2_previousSetD_ADC = () -> ABC_listIte
 			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", scenarioName + " TESTS");
 			e.printStackTrace();
 		} finally {
+			closeOpenLists();
 			if (printSectionSummaries) {
 				printSectionSummary();
 			}
@@ -1166,6 +1278,7 @@ private Scenario<Integer> ABC_listIterator2_previousSetD_ADC = () -> ABC_listIte
 			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", scenarioName + " TESTS");
 			e.printStackTrace();
 		} finally {
+			closeOpenLists();
 			if (printSectionSummaries) {
 				printSectionSummary();
 			}
@@ -1348,6 +1461,7 @@ private Scenario<Integer> ABC_listIterator2_previousSetD_ADC = () -> ABC_listIte
 			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", scenarioName + " TESTS");
 			e.printStackTrace();
 		} finally {
+			closeOpenLists();
 			if (printSectionSummaries) {
 				printSectionSummary();
 			}
@@ -2573,6 +2687,7 @@ private Scenario<Integer> ABC_listIterator2_previousSetD_ADC = () -> ABC_listIte
 			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_IteratorConcurrency");
 			e.printStackTrace();
 		} finally {
+			closeOpenLists();
 			if (printSectionSummaries) {
 				printSectionSummary();
 			}
@@ -3845,13 +3960,1013 @@ private Scenario<Integer> ABC_listIterator2_previousSetD_ADC = () -> ABC_listIte
 			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_ListIterConcurrency");
 			e.printStackTrace();
 		} finally {
+			closeOpenLists();
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	//////////////////////////////////////////////////////////
+	// XXX Implementation-Specific Tests
+	// Features beyond the IndexedUnsortedList interface, run only
+	// for the list that has them
+	//////////////////////////////////////////////////////////
+
+	/** Helper for implementation-specific tests. Returns a new IUArrayList holding elements, in order.
+	 * @param elements contents of the list
+	 * @return [elements]
+	 */
+	private IUArrayList<Integer> arrayListOf(Integer... elements) {
+		IUArrayList<Integer> list = new IUArrayList<Integer>();
+		for (Integer element : elements) {
+			list.addToRear(element);
+		}
+		return list;
+	}
+
+	/** Helper for implementation-specific tests. Returns a new IUArrayList holding elements,
+	 * in order, with its position index enabled.
+	 * @param elements contents of the list
+	 * @return [elements] with position index
+	 */
+	private IUArrayList<Integer> indexedArrayListOf(Integer... elements) {
+		IUArrayList<Integer> list = arrayListOf(elements);
+		list.enablePositionIndex();
+		return list;
+	}
+
+	/** Checks size and iteration order of list against expected contents
+	 * @param list a list already prepared for a given change scenario
+	 * @param contents expected elements, in order
+	 * @return test success
+	 */
+	private boolean testContents(Iterable<Integer> list, Integer[] contents) {
+		try {
+			int i = 0;
+			for (Integer element : list) {
+				if (i == contents.length || !element.equals(contents[i])) {
+					return false;
+				}
+				i++;
+			}
+			return i == contents.length;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testContents", e.toString());
+			e.printStackTrace();
+			return false;
+		}
+	}
+
+	/** run IUArrayList position index tests: indexOf and contains must see every change to the list */
+	private void test_ArrayListPositionIndex() {
+		System.out.println("\nIUArrayList Position Index Tests\n");
+		try {
+			IUArrayList<Integer> list = indexedArrayListOf();
+			printTest("emptyList_enableIndex_testHasPositionIndex", list.hasPositionIndex());
+			printTest("emptyList_enableIndex_testIndexOfX", testIndexOf(list, ELEMENT_X, -1));
+			list = indexedArrayListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			printTest("ABC_enableIndex_testIndexOfC", testIndexOf(list, ELEMENT_C, 2));
+			printTest("ABC_enableIndex_testContainsB", testContains(list, ELEMENT_B, Result.True));
+			printTest("ABC_enableIndex_testContainsX", testContains(list, ELEMENT_X, Result.False));
+
+			list = indexedArrayListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			list.add(1, ELEMENT_D);
+			printTest("ABC_enableIndex_add1D_testIndexOfD", testIndexOf(list, ELEMENT_D, 1));
+			printTest("ABC_enableIndex_add1D_testIndexOfB", testIndexOf(list, ELEMENT_B, 2));
+			printTest("ABC_enableIndex_add1D_testIndexOfC", testIndexOf(list, ELEMENT_C, 3));
+			list = indexedArrayListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			list.addToFront(ELEMENT_D);
+			printTest("ABC_enableIndex_addToFrontD_testIndexOfA", testIndexOf(list, ELEMENT_A, 1));
+			printTest("ABC_enableIndex_addToFrontD_testIndexOfD", testIndexOf(list, ELEMENT_D, 0));
+			list = indexedArrayListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			list.addAfter(ELEMENT_D, ELEMENT_A);
+			printTest("ABC_enableIndex_addAfterDA_testIndexOfC", testIndexOf(list, ELEMENT_C, 3));
+
+			list = indexedArrayListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			list.removeFirst();
+			printTest("ABC_enableIndex_removeFirst_testIndexOfC", testIndexOf(list, ELEMENT_C, 1));
+			printTest("ABC_enableIndex_removeFirst_testIndexOfA", testIndexOf(list, ELEMENT_A, -1));
+			list = indexedArrayListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			list.remove(1);
+			printTest("ABC_enableIndex_remove1_testIndexOfC", testIndexOf(list, ELEMENT_C, 1));
+			printTest("ABC_enableIndex_remove1_testContainsB", testContains(list, ELEMENT_B, Result.False));
+			list = indexedArrayListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			list.remove(ELEMENT_B);
+			printTest("ABC_enableIndex_removeB_testIndexOfC", testIndexOf(list, ELEMENT_C, 1));
+			list = indexedArrayListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			list.set(1, ELEMENT_D);
+			printTest("ABC_enableIndex_set1D_testIndexOfD", testIndexOf(list, ELEMENT_D, 1));
+			printTest("ABC_enableIndex_set1D_testContainsB", testContains(list, ELEMENT_B, Result.False));
+
+			list = indexedArrayListOf(ELEMENT_A, ELEMENT_B, ELEMENT_A);
+			printTest("ABA_enableIndex_testIndexOfA", testIndexOf(list, ELEMENT_A, 0));
+			list.removeFirst();
+			printTest("ABA_enableIndex_removeFirst_testIndexOfA", testIndexOf(list, ELEMENT_A, 1));
+			list = indexedArrayListOf(ELEMENT_A, ELEMENT_B, ELEMENT_A);
+			list.remove(ELEMENT_A);
+			printTest("ABA_enableIndex_removeA_testContents", testContents(list, new Integer[] {ELEMENT_B, ELEMENT_A}));
+			printTest("ABA_enableIndex_removeA_testIndexOfA", testIndexOf(list, ELEMENT_A, 1));
+
+			// wrap the circular buffer before indexing
+			list = arrayListOf(ELEMENT_C, ELEMENT_D);
+			list.addToFront(ELEMENT_B);
+			list.addToFront(ELEMENT_A);
+			list.enablePositionIndex();
+			list.add(2, ELEMENT_X);
+			printTest("wrapped_ABCD_enableIndex_add2X_testIndexOfD", testIndexOf(list, ELEMENT_D, 4));
+
+			list = indexedArrayListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			list.disablePositionIndex();
+			printTest("ABC_enableIndex_disableIndex_testHasPositionIndex", !list.hasPositionIndex());
+			printTest("ABC_enableIndex_disableIndex_testIndexOfC", testIndexOf(list, ELEMENT_C, 2));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_ArrayListPositionIndex");
+			e.printStackTrace();
+		} finally {
+			closeOpenLists();
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** Runs the ScalingCapacityPolicy constructor and checks result against expectedResult
+	 * @param growthFactor
+	 * @param maxStep
+	 * @param shrinkThreshold
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testNewScalingCapacityPolicy(double growthFactor, int maxStep, double shrinkThreshold, Result expectedResult) {
+		Result result;
+		try {
+			new ScalingCapacityPolicy(growthFactor, maxStep, shrinkThreshold);
+			result = Result.NoException;
+		} catch (IllegalArgumentException e) {
+			result = Result.IllegalArgument;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testNewScalingCapacityPolicy", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** run IUArrayList capacity tests: policy-driven growth and shrinking, ensureCapacity, trimToSize and the reallocation counters */
+	private void test_ArrayListCapacity() {
+		System.out.println("\nIUArrayList Capacity Tests\n");
+		try {
+			IUArrayList<Integer> list = new IUArrayList<Integer>(4);
+			printTest("emptyList_capacity4_testCapacity", list.capacity() == 4);
+			for (int i = 0; i < 5; i++) {
+				list.addToRear(i);
+			}
+			printTest("capacity4_add5_testCapacity", list.capacity() == 10);
+			printTest("capacity4_add5_testReallocations", list.getReallocations() == 1);
+			printTest("capacity4_add5_testBytesCopied", list.getBytesCopied() == 4 * 4);
+			printTest("capacity4_add5_testContents", testContents(list, new Integer[] {0, 1, 2, 3, 4}));
+
+			list = arrayListOf(ELEMENT_B, ELEMENT_C);
+			list.addToFront(ELEMENT_A);
+			list.ensureCapacity(100);
+			printTest("wrapped_ABC_ensureCapacity100_testCapacity", list.capacity() == 100);
+			printTest("wrapped_ABC_ensureCapacity100_testContents", testContents(list, new Integer[] {ELEMENT_A, ELEMENT_B, ELEMENT_C}));
+			list.ensureCapacity(50);
+			printTest("ABC_ensureCapacity100_ensureCapacity50_testCapacity", list.capacity() == 100);
+			printTest("ABC_ensureCapacity100_ensureCapacity50_testReallocations", list.getReallocations() == 1);
+
+			// sorting unwraps the buffer in place, which isn't a reallocation
+			list = new IUArrayList<Integer>(4);
+			list.addToRear(ELEMENT_C);
+			list.addToRear(ELEMENT_A);
+			list.addToFront(ELEMENT_D);
+			list.addToFront(ELEMENT_B);
+			list.sort(null);
+			printTest("wrapped_BDCA_sort_testContents", testContents(list, new Integer[] {ELEMENT_A, ELEMENT_B, ELEMENT_C, ELEMENT_D}));
+			printTest("wrapped_BDCA_sort_testReallocations", list.getReallocations() == 0);
+			printTest("wrapped_BDCA_sort_testCapacity", list.capacity() == 4);
+			list.addToRear(ELEMENT_X);
+			printTest("wrapped_BDCA_sort_addToRearX_testContents", testContents(list, new Integer[] {ELEMENT_A, ELEMENT_B, ELEMENT_C, ELEMENT_D, ELEMENT_X}));
+
+			list = arrayListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			list.trimToSize();
+			printTest("ABC_trimToSize_testCapacity", list.capacity() == 3);
+			printTest("ABC_trimToSize_testContents", testContents(list, new Integer[] {ELEMENT_A, ELEMENT_B, ELEMENT_C}));
+			list = new IUArrayList<Integer>();
+			list.trimToSize();
+			printTest("emptyList_trimToSize_testCapacity", list.capacity() == 0);
+			list.addToRear(ELEMENT_A);
+			printTest("emptyList_trimToSize_addToRearA_testContents", testContents(list, new Integer[] {ELEMENT_A}));
+
+			list = new IUArrayList<Integer>(10, new ScalingCapacityPolicy(1.5, 4, 0.0));
+			for (int i = 0; i < 11; i++) {
+				list.addToRear(i);
+			}
+			printTest("scaling1.5max4_add11_testCapacity", list.capacity() == 14);
+
+			list = new IUArrayList<Integer>(10, new ScalingCapacityPolicy(2.0, Integer.MAX_VALUE, 0.25));
+			for (int i = 0; i < 40; i++) {
+				list.addToRear(i);
+			}
+			printTest("scaling2shrink0.25_add40_testCapacity", list.capacity() == 40);
+			while (list.size() > 9) {
+				list.removeLast();
+			}
+			printTest("scaling2shrink0.25_add40_remove31_testCapacity", list.capacity() == 18);
+			printTest("scaling2shrink0.25_add40_remove31_testContents", testContents(list, new Integer[] {0, 1, 2, 3, 4, 5, 6, 7, 8}));
+
+			printTest("newScalingCapacityPolicy_testValid", testNewScalingCapacityPolicy(2.0, 1, 0.25, Result.NoException));
+			printTest("newScalingCapacityPolicy_testGrowthFactor1", testNewScalingCapacityPolicy(1.0, 1, 0.0, Result.IllegalArgument));
+			printTest("newScalingCapacityPolicy_testMaxStep0", testNewScalingCapacityPolicy(2.0, 0, 0.0, Result.IllegalArgument));
+			printTest("newScalingCapacityPolicy_testShrinkThreshold0.5", testNewScalingCapacityPolicy(2.0, 1, 0.5, Result.IllegalArgument));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_ArrayListCapacity");
+			e.printStackTrace();
+		} finally {
+			closeOpenLists();
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** Runs removeIf() method on given list and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param filter predicate selecting elements to remove
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testRemoveIf(IUArrayList<Integer> list, Predicate<Integer> filter, Result expectedResult) {
+		Result result;
+		try {
+			result = list.removeIf(filter) ? Result.True : Result.False;
+		} catch (IllegalStateException e) {
+			result = Result.IllegalState;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testRemoveIf", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Runs addAll(index, c) method on given list and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param index position of the first added element
+	 * @param c elements to add
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testAddAllAtIndex(IUArrayList<Integer> list, int index, Collection<Integer> c, Result expectedResult) {
+		Result result;
+		try {
+			result = list.addAll(index, c) ? Result.True : Result.False;
+		} catch (IndexOutOfBoundsException e) {
+			result = Result.IndexOutOfBounds;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testAddAllAtIndex", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** run IUArrayList bulk operation tests: addAll, addAll(index), removeAll, retainAll and removeIf */
+	private void test_ArrayListBulkOps() {
+		System.out.println("\nIUArrayList Bulk Operation Tests\n");
+		Integer[] abc = {ELEMENT_A, ELEMENT_B, ELEMENT_C};
+		try {
+			IUArrayList<Integer> list = arrayListOf(ELEMENT_A);
+			printTest("A_addAllEmpty_testReturn", !list.addAll(Collections.<Integer>emptyList()));
+			printTest("A_addAllEmpty_testContents", testContents(list, new Integer[] {ELEMENT_A}));
+			list = arrayListOf(ELEMENT_A);
+			printTest("A_addAllBC_testReturn", list.addAll(Arrays.asList(ELEMENT_B, ELEMENT_C)));
+			printTest("A_addAllBC_testContents", testContents(list, abc));
+			list = arrayListOf();
+			printTest("emptyList_addAllABC_testReturn", list.addAll(Arrays.asList(abc)));
+			printTest("emptyList_addAllABC_testContents", testContents(list, abc));
+
+			list = arrayListOf(ELEMENT_A, ELEMENT_C);
+			printTest("AC_addAll1B_testReturn", testAddAllAtIndex(list, 1, Arrays.asList(ELEMENT_B), Result.True));
+			printTest("AC_addAll1B_testContents", testContents(list, abc));
+			list = arrayListOf(ELEMENT_C);
+			printTest("C_addAll0AB_testReturn", testAddAllAtIndex(list, 0, Arrays.asList(ELEMENT_A, ELEMENT_B), Result.True));
+			printTest("C_addAll0AB_testContents", testContents(list, abc));
+			list = arrayListOf(ELEMENT_B, ELEMENT_C);
+			list.addToFront(ELEMENT_A);
+			printTest("wrapped_ABC_addAll1DD_testReturn", testAddAllAtIndex(list, 1, Arrays.asList(ELEMENT_D, ELEMENT_D), Result.True));
+			printTest("wrapped_ABC_addAll1DD_testContents", testContents(list, new Integer[] {ELEMENT_A, ELEMENT_D, ELEMENT_D, ELEMENT_B, ELEMENT_C}));
+			list = new IUArrayList<Integer>(2);
+			list.addToRear(ELEMENT_A);
+			list.addToRear(ELEMENT_D);
+			printTest("full_AD_addAll1BC_testReturn", testAddAllAtIndex(list, 1, Arrays.asList(ELEMENT_B, ELEMENT_C), Result.True));
+			printTest("full_AD_addAll1BC_testContents", testContents(list, new Integer[] {ELEMENT_A, ELEMENT_B, ELEMENT_C, ELEMENT_D}));
+			list = arrayListOf(ELEMENT_A);
+			printTest("A_addAllNeg1B_testIndexOutOfBounds", testAddAllAtIndex(list, -1, Arrays.asList(ELEMENT_B), Result.IndexOutOfBounds));
+			printTest("A_addAll2B_testIndexOutOfBounds", testAddAllAtIndex(list, 2, Arrays.asList(ELEMENT_B), Result.IndexOutOfBounds));
+			printTest("A_addAll2B_testContents", testContents(list, new Integer[] {ELEMENT_A}));
+
+			list = arrayListOf(ELEMENT_A, ELEMENT_B, ELEMENT_A, ELEMENT_C);
+			printTest("ABAC_removeAllA_testReturn", list.removeAll(Arrays.asList(ELEMENT_A)));
+			printTest("ABAC_removeAllA_testContents", testContents(list, new Integer[] {ELEMENT_B, ELEMENT_C}));
+			list = arrayListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			printTest("ABC_removeAllX_testReturn", !list.removeAll(Arrays.asList(ELEMENT_X)));
+			printTest("ABC_removeAllX_testContents", testContents(list, abc));
+			list = arrayListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			printTest("ABC_retainAllAC_testReturn", list.retainAll(Arrays.asList(ELEMENT_C, ELEMENT_A)));
+			printTest("ABC_retainAllAC_testContents", testContents(list, new Integer[] {ELEMENT_A, ELEMENT_C}));
+			list = arrayListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			printTest("ABC_retainAllABC_testReturn", !list.retainAll(Arrays.asList(abc)));
+			list = arrayListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			printTest("ABC_retainAllEmpty_testReturn", list.retainAll(Collections.<Integer>emptyList()));
+			printTest("ABC_retainAllEmpty_testContents", testContents(list, new Integer[] {}));
+
+			list = arrayListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C, ELEMENT_D);
+			printTest("ABCD_removeIfEven_testReturn", testRemoveIf(list, element -> element % 2 == 0, Result.True));
+			printTest("ABCD_removeIfEven_testContents", testContents(list, new Integer[] {ELEMENT_A, ELEMENT_C}));
+			list = arrayListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			printTest("ABC_removeIfNone_testReturn", testRemoveIf(list, element -> false, Result.False));
+			list = arrayListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			Iterator<Integer> it = list.iterator();
+			list.removeIf(element -> false);
+			printTest("ABC_iter_removeIfNone_testIterHasNext", testIterHasNext(it, Result.True));
+			it = list.iterator();
+			list.removeIf(element -> ELEMENT_B.equals(element));
+			printTest("ABC_iter_removeIfB_testIterHasNextConcurrent", testIterHasNext(it, Result.ConcurrentModification));
+			list = arrayListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			printTest("ABC_removeIfThrowsAtC_testIllegalState", testRemoveIf(list, element -> {
+				if (ELEMENT_C.equals(element)) { throw new IllegalStateException(); }
+				return true;
+			}, Result.IllegalState));
+			printTest("ABC_removeIfThrowsAtC_testContents", testContents(list, abc));
+
+			// the position index must follow bulk changes too
+			list = indexedArrayListOf(ELEMENT_A, ELEMENT_C);
+			list.addAll(1, Arrays.asList(ELEMENT_B));
+			printTest("AC_enableIndex_addAll1B_testIndexOfC", testIndexOf(list, ELEMENT_C, 2));
+			list = indexedArrayListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			list.removeIf(element -> ELEMENT_A.equals(element));
+			printTest("ABC_enableIndex_removeIfA_testIndexOfC", testIndexOf(list, ELEMENT_C, 1));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_ArrayListBulkOps");
+			e.printStackTrace();
+		} finally {
+			closeOpenLists();
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** Runs Sort.parallelSort(list, c) on given list and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param c ordering to sort by, null for natural ordering
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testParallelSort(IndexedUnsortedList<Integer> list, Comparator<Integer> c, Result expectedResult) {
+		Result result;
+		try {
+			Sort.parallelSort(list, c);
+			result = Result.NoException;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testParallelSort", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** run Sort.parallelSort tests on IUArrayLists on both sides of its 8192 element threshold: a null Comparator means natural ordering at any size */
+	private void test_ParallelSort() {
+		System.out.println("\nSort.parallelSort Tests\n");
+		try {
+			for (int size : new int[] {0, 1, 8192, 20000}) {
+				IUArrayList<Integer> list = new IUArrayList<Integer>();
+				Integer[] sorted = new Integer[size];
+				Integer[] descending = new Integer[size];
+				for (int i = 0; i < size; i++) {
+					list.addToRear(size - 1 - i);
+					sorted[i] = i;
+					descending[i] = size - 1 - i;
+				}
+				printTest("descending" + size + "_parallelSortNull_testNoException", testParallelSort(list, null, Result.NoException));
+				printTest("descending" + size + "_parallelSortNull_testContents", testContents(list, sorted));
+				printTest("ascending" + size + "_parallelSortReversed_testContents", testParallelSort(list, Comparator.reverseOrder(), Result.NoException)
+						&& testContents(list, descending));
+			}
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_ParallelSort");
+			e.printStackTrace();
+		} finally {
+			closeOpenLists();
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** Opens a MappedIUArrayList of Integers on an existing file and checks result against expectedResult.
+	 * A list that opens is closed by the next closeOpenLists().
+	 * @param file file to open
+	 * @param contents elements the list should hold, in order, if it opens
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testOpenMapped(File file, Integer[] contents, Result expectedResult) {
+		Result result;
+		try {
+			MappedIUArrayList<Integer> list = new MappedIUArrayList<Integer>(file.toPath(), FixedWidthCodec.INTEGER, 1024);
+			openLists.add(list);
+			result = testContents(list, contents) ? Result.NoException : Result.Fail;
+		} catch (IOException e) {
+			result = Result.IO;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testOpenMapped", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** run MappedIUArrayList file tests: only an empty file is a new list, and anything else without a header is refused untouched */
+	private void test_MappedArrayListFile() {
+		System.out.println("\nMappedIUArrayList File Tests\n");
+		try {
+			File file = File.createTempFile("ListTester", ".dat");
+			file.deleteOnExit();
+			openFiles.add(file);
+			printTest("emptyFile_open_testContents", testOpenMapped(file, new Integer[] {}, Result.NoException));
+			closeOpenLists();
+
+			file = File.createTempFile("ListTester", ".dat");
+			file.deleteOnExit();
+			openFiles.add(file);
+			MappedIUArrayList<Integer> list = new MappedIUArrayList<Integer>(file.toPath(), FixedWidthCodec.INTEGER, 1024);
+			list.addToRear(ELEMENT_A);
+			list.addToRear(ELEMENT_B);
+			list.close();
+			printTest("AB_close_reopen_testContents", testOpenMapped(file, new Integer[] {ELEMENT_A, ELEMENT_B}, Result.NoException));
+			closeOpenLists();
+
+			byte[] shortBytes = {1, 2, 3, 4, 5, 6, 7, 8};
+			file = File.createTempFile("ListTester", ".dat");
+			file.deleteOnExit();
+			openFiles.add(file);
+			Files.write(file.toPath(), shortBytes);
+			printTest("8ByteFile_open_testIO", testOpenMapped(file, new Integer[] {}, Result.IO));
+			printTest("8ByteFile_open_testFileUnchanged", Arrays.equals(Files.readAllBytes(file.toPath()), shortBytes));
+
+			byte[] notAList = new byte[64];
+			Arrays.fill(notAList, (byte)7);
+			file = File.createTempFile("ListTester", ".dat");
+			file.deleteOnExit();
+			openFiles.add(file);
+			Files.write(file.toPath(), notAList);
+			printTest("64ByteFile_open_testIO", testOpenMapped(file, new Integer[] {}, Result.IO));
+			printTest("64ByteFile_open_testFileUnchanged", Arrays.equals(Files.readAllBytes(file.toPath()), notAList));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_MappedArrayListFile");
+			e.printStackTrace();
+		} finally {
+			closeOpenLists();
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** Helper for implementation-specific tests. Returns a new IUDoubleLinkedList holding elements, in order.
+	 * @param elements contents of the list
+	 * @return [elements]
+	 */
+	private IUDoubleLinkedList<Integer> doubleLinkedListOf(Integer... elements) {
+		IUDoubleLinkedList<Integer> list = new IUDoubleLinkedList<Integer>();
+		for (Integer element : elements) {
+			list.addToRear(element);
+		}
+		return list;
+	}
+
+	/** Checks that list holds exactly elements in some order and that walking it
+	 * backward visits the same nodes as walking it forward
+	 * @param list a list already prepared for a given change scenario
+	 * @param elements expected elements, in any order
+	 * @return test success
+	 */
+	private boolean testSameElements(IUDoubleLinkedList<Integer> list, Integer[] elements) {
+		try {
+			ArrayList<Integer> forward = new ArrayList<Integer>();
+			for (Integer element : list) {
+				forward.add(element);
+			}
+			ArrayList<Integer> backward = new ArrayList<Integer>();
+			ListIterator<Integer> it = list.listIterator(list.size());
+			while (it.hasPrevious()) {
+				backward.add(it.previous());
+			}
+			Collections.reverse(backward);
+			if (list.size() != elements.length || !forward.equals(backward)) {
+				return false;
+			}
+			Integer[] expected = elements.clone();
+			Arrays.sort(expected);
+			Collections.sort(forward);
+			return forward.equals(Arrays.asList(expected));
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testSameElements", e.toString());
+			e.printStackTrace();
+			return false;
+		}
+	}
+
+	/** Runs sort() method on given list and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param c ordering to sort by, null for natural ordering
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testSort(IUDoubleLinkedList<Integer> list, Comparator<Integer> c, Result expectedResult) {
+		Result result;
+		try {
+			list.sort(c);
+			result = Result.NoException;
+		} catch (IllegalStateException e) {
+			result = Result.IllegalState;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testSort", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Returns a natural-order comparator that throws IllegalStateException on its given call
+	 * @param failingCall number of the call that throws, counting from 0
+	 * @return the comparator
+	 */
+	private Comparator<Integer> comparatorThrowingAt(int failingCall) {
+		int[] calls = {0};
+		return (a, b) -> {
+			if (calls[0]++ == failingCall) {
+				throw new IllegalStateException();
+			}
+			return a.compareTo(b);
+		};
+	}
+
+	/** run IUDoubleLinkedList sort tests: stable natural merge sort, and a throwing comparator must not lose nodes */
+	private void test_DoubleLinkedListSort() {
+		System.out.println("\nIUDoubleLinkedList Sort Tests\n");
+		Integer[] abcd = {ELEMENT_A, ELEMENT_B, ELEMENT_C, ELEMENT_D};
+		Integer[] dcba = {ELEMENT_D, ELEMENT_C, ELEMENT_B, ELEMENT_A};
+		Integer[] bdac = {ELEMENT_B, ELEMENT_D, ELEMENT_A, ELEMENT_C};
+		try {
+			IUDoubleLinkedList<Integer> list = doubleLinkedListOf();
+			printTest("emptyList_sort_testNoException", testSort(list, null, Result.NoException));
+			printTest("emptyList_sort_testContents", testContents(list, new Integer[] {}));
+			list = doubleLinkedListOf(ELEMENT_A);
+			printTest("A_sort_testContents", testSort(list, null, Result.NoException) && testContents(list, new Integer[] {ELEMENT_A}));
+			list = doubleLinkedListOf(bdac);
+			printTest("BDAC_sort_testContents", testSort(list, null, Result.NoException) && testContents(list, abcd));
+			printTest("BDAC_sort_testLast", testLast(list, ELEMENT_D, Result.MatchingValue));
+			list = doubleLinkedListOf(dcba);
+			printTest("DCBA_sort_testContents", testSort(list, null, Result.NoException) && testContents(list, abcd));
+			list = doubleLinkedListOf(abcd);
+			printTest("ABCD_sortReversed_testContents", testSort(list, Comparator.reverseOrder(), Result.NoException)
+					&& testContents(list, dcba));
+			list = doubleLinkedListOf(bdac);
+			Iterator<Integer> it = list.iterator();
+			list.sort(null);
+			printTest("BDAC_iter_sort_testIterHasNextConcurrent", testIterHasNext(it, Result.ConcurrentModification));
+
+			// the comparator throws partway: every node must stay linked both ways
+			for (int failingCall = 0; failingCall < 5; failingCall++) {
+				list = doubleLinkedListOf(bdac);
+				printTest("BDAC_sortThrowsAt" + failingCall + "_testIllegalState",
+						testSort(list, comparatorThrowingAt(failingCall), Result.IllegalState));
+				printTest("BDAC_sortThrowsAt" + failingCall + "_testSameElements", testSameElements(list, bdac));
+			}
+			list = doubleLinkedListOf(dcba);
+			printTest("DCBA_sortThrowsAt1_testIllegalState", testSort(list, comparatorThrowingAt(1), Result.IllegalState));
+			printTest("DCBA_sortThrowsAt1_testSameElements", testSameElements(list, dcba));
+			printTest("DCBA_sortThrowsAt1_sort_testContents", testSort(list, null, Result.NoException) && testContents(list, abcd));
+			Integer[] shuffled = new Integer[1000];
+			for (int i = 0; i < shuffled.length; i++) {
+				shuffled[i] = (i * 389) % shuffled.length;
+			}
+			list = doubleLinkedListOf(shuffled);
+			printTest("shuffled1000_sortThrowsAt5000_testIllegalState", testSort(list, comparatorThrowingAt(5000), Result.IllegalState));
+			printTest("shuffled1000_sortThrowsAt5000_testSameElements", testSameElements(list, shuffled));
+			list = doubleLinkedListOf(bdac);
+			list.enableNodeIndex();
+			printTest("indexed_BDAC_sortThrowsAt3_testIllegalState", testSort(list, comparatorThrowingAt(3), Result.IllegalState));
+			list.remove(ELEMENT_A);
+			printTest("indexed_BDAC_sortThrowsAt3_removeA_testSameElements", testSameElements(list, new Integer[] {ELEMENT_B, ELEMENT_D, ELEMENT_C}));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_DoubleLinkedListSort");
+			e.printStackTrace();
+		} finally {
+			closeOpenLists();
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** Runs concat(other) method on given list and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param other list whose nodes are appended
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testConcat(IUDoubleLinkedList<Integer> list, IUDoubleLinkedList<Integer> other, Result expectedResult) {
+		Result result;
+		try {
+			list.concat(other);
+			result = Result.NoException;
+		} catch (IllegalArgumentException e) {
+			result = Result.IllegalArgument;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testConcat", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Runs splitAt(iterator) method on given list and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param iterator list iterator marking the split
+	 * @param expectedTail elements the returned list should hold, in order
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testSplitAt(IUDoubleLinkedList<Integer> list, ListIterator<Integer> iterator, Integer[] expectedTail, Result expectedResult) {
+		Result result;
+		try {
+			IUDoubleLinkedList<Integer> tail = list.splitAt(iterator);
+			if (testContents(tail, expectedTail) && testSameElements(tail, expectedTail)) {
+				result = Result.MatchingValue;
+			} else {
+				result = Result.Fail;
+			}
+		} catch (IllegalArgumentException e) {
+			result = Result.IllegalArgument;
+		} catch (ConcurrentModificationException e) {
+			result = Result.ConcurrentModification;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testSplitAt", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Runs spliceAfter(iterator, other) method on given list and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param iterator list iterator marking where to insert
+	 * @param other list whose nodes are inserted
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testSpliceAfter(IUDoubleLinkedList<Integer> list, ListIterator<Integer> iterator, IUDoubleLinkedList<Integer> other, Result expectedResult) {
+		Result result;
+		try {
+			list.spliceAfter(iterator, other);
+			result = Result.NoException;
+		} catch (IllegalArgumentException e) {
+			result = Result.IllegalArgument;
+		} catch (ConcurrentModificationException e) {
+			result = Result.ConcurrentModification;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testSpliceAfter", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** run IUDoubleLinkedList concat, splitAt and spliceAfter tests: nodes move between lists with both ends, links and iterators kept right */
+	private void test_DoubleLinkedListSplice() {
+		System.out.println("\nIUDoubleLinkedList Splice Tests\n");
+		Integer[] empty = {};
+		Integer[] a = {ELEMENT_A};
+		Integer[] ab = {ELEMENT_A, ELEMENT_B};
+		Integer[] abc = {ELEMENT_A, ELEMENT_B, ELEMENT_C};
+		Integer[] abcd = {ELEMENT_A, ELEMENT_B, ELEMENT_C, ELEMENT_D};
+		try {
+			// concat
+			IUDoubleLinkedList<Integer> list = doubleLinkedListOf();
+			IUDoubleLinkedList<Integer> other = doubleLinkedListOf();
+			printTest("emptyList_concatEmpty_testContents", testConcat(list, other, Result.NoException) && testContents(list, empty));
+			list = doubleLinkedListOf();
+			other = doubleLinkedListOf(ELEMENT_A);
+			printTest("emptyList_concatA_testContents", testConcat(list, other, Result.NoException) && testSameElements(list, a));
+			printTest("emptyList_concatA_testFirst", testFirst(list, ELEMENT_A, Result.MatchingValue));
+			printTest("emptyList_concatA_testLast", testLast(list, ELEMENT_A, Result.MatchingValue));
+			printTest("emptyList_concatA_testOtherIsEmpty", testIsEmpty(other, Result.True));
+			list = doubleLinkedListOf(ELEMENT_A);
+			other = doubleLinkedListOf();
+			printTest("A_concatEmpty_testContents", testConcat(list, other, Result.NoException) && testSameElements(list, a));
+			list = doubleLinkedListOf(ELEMENT_A, ELEMENT_B);
+			other = doubleLinkedListOf(ELEMENT_C, ELEMENT_D);
+			printTest("AB_concatCD_testContents", testConcat(list, other, Result.NoException)
+					&& testContents(list, abcd) && testSameElements(list, abcd));
+			printTest("AB_concatCD_testLast", testLast(list, ELEMENT_D, Result.MatchingValue));
+			printTest("AB_concatCD_testGet2", testGet(list, 2, ELEMENT_C, Result.MatchingValue));
+			printTest("AB_concatCD_testOtherSize", testSize(other, 0));
+			printTest("AB_concatCD_otherAddToRearX_testOtherContents", testAddToRear(other, ELEMENT_X, Result.NoException)
+					&& testContents(other, new Integer[] {ELEMENT_X}) && testContents(list, abcd));
+			list = doubleLinkedListOf(ELEMENT_A, ELEMENT_B);
+			printTest("AB_concatSelf_testIllegalArgument", testConcat(list, list, Result.IllegalArgument));
+			printTest("AB_concatSelf_testContents", testSameElements(list, ab) && testContents(list, ab));
+			list = doubleLinkedListOf(ELEMENT_A);
+			Iterator<Integer> it = list.iterator();
+			list.concat(doubleLinkedListOf(ELEMENT_B));
+			printTest("A_iter_concatB_testIterHasNextConcurrent", testIterHasNext(it, Result.ConcurrentModification));
+			list = doubleLinkedListOf(ELEMENT_A);
+			list.enableNodeIndex();
+			list.concat(doubleLinkedListOf(ELEMENT_B, ELEMENT_C));
+			printTest("indexed_A_concatBC_testIndexOfC", testIndexOf(list, ELEMENT_C, 2));
+			printTest("indexed_A_concatBC_testContainsB", testContains(list, ELEMENT_B, Result.True));
+
+			// splitAt
+			list = doubleLinkedListOf();
+			ListIterator<Integer> listIt = list.listIterator();
+			printTest("emptyList_splitAt0_testTail", testSplitAt(list, listIt, empty, Result.MatchingValue));
+			printTest("emptyList_splitAt0_testContents", testContents(list, empty));
+			list = doubleLinkedListOf(ELEMENT_A);
+			listIt = list.listIterator();
+			printTest("A_splitAt0_testTail", testSplitAt(list, listIt, a, Result.MatchingValue));
+			printTest("A_splitAt0_testIsEmpty", testIsEmpty(list, Result.True));
+			printTest("A_splitAt0_testIterHasPrevious", testListIterHasPrevious(listIt, Result.False));
+			printTest("A_splitAt0_iterAddB_testContents", testListIterAdd(listIt, ELEMENT_B, Result.NoException)
+					&& testSameElements(list, new Integer[] {ELEMENT_B}));
+			list = doubleLinkedListOf(ELEMENT_A);
+			listIt = list.listIterator(1);
+			printTest("A_splitAt1_testTail", testSplitAt(list, listIt, empty, Result.MatchingValue));
+			printTest("A_splitAt1_testContents", testSameElements(list, a));
+			list = doubleLinkedListOf(abcd);
+			listIt = list.listIterator();
+			printTest("ABCD_splitAt0_testTail", testSplitAt(list, listIt, abcd, Result.MatchingValue));
+			printTest("ABCD_splitAt0_testIsEmpty", testIsEmpty(list, Result.True));
+			printTest("ABCD_splitAt0_addToRearX_testContents", testAddToRear(list, ELEMENT_X, Result.NoException)
+					&& testSameElements(list, new Integer[] {ELEMENT_X}));
+			list = doubleLinkedListOf(abcd);
+			listIt = list.listIterator(4);
+			printTest("ABCD_splitAt4_testTail", testSplitAt(list, listIt, empty, Result.MatchingValue));
+			printTest("ABCD_splitAt4_testContents", testSameElements(list, abcd) && testContents(list, abcd));
+			list = doubleLinkedListOf(abcd);
+			listIt = list.listIterator(2);
+			printTest("ABCD_splitAt2_testTail", testSplitAt(list, listIt, new Integer[] {ELEMENT_C, ELEMENT_D}, Result.MatchingValue));
+			printTest("ABCD_splitAt2_testContents", testContents(list, ab) && testSameElements(list, ab));
+			printTest("ABCD_splitAt2_testLast", testLast(list, ELEMENT_B, Result.MatchingValue));
+			printTest("ABCD_splitAt2_testIterHasNext", testListIterHasNext(listIt, Result.False));
+			printTest("ABCD_splitAt2_testIterNextIndex", testListIterNextIndex(listIt, 2, Result.MatchingValue));
+			printTest("ABCD_splitAt2_testIterPrevious", testListIterPrevious(listIt, ELEMENT_B, Result.MatchingValue));
+			list = doubleLinkedListOf(abcd);
+			listIt = list.listIterator(2);
+			list.splitAt(listIt);
+			printTest("ABCD_splitAt2_iterAddX_testContents", testListIterAdd(listIt, ELEMENT_X, Result.NoException)
+					&& testContents(list, new Integer[] {ELEMENT_A, ELEMENT_B, ELEMENT_X})
+					&& testSameElements(list, new Integer[] {ELEMENT_A, ELEMENT_B, ELEMENT_X}));
+			list = doubleLinkedListOf(abc);
+			listIt = doubleLinkedListOf(abc).listIterator(1);
+			printTest("ABC_splitAtOtherListIter_testIllegalArgument", testSplitAt(list, listIt, empty, Result.IllegalArgument));
+			list = doubleLinkedListOf(abc);
+			listIt = list.listIterator(1);
+			list.addToRear(ELEMENT_D);
+			printTest("ABC_iter_addToRearD_splitAt_testConcurrentModification", testSplitAt(list, listIt, empty, Result.ConcurrentModification));
+			list = doubleLinkedListOf(abcd);
+			list.enableNodeIndex();
+			IUDoubleLinkedList<Integer> tail = list.splitAt(list.listIterator(2));
+			printTest("indexed_ABCD_splitAt2_testIndexOfC", testIndexOf(list, ELEMENT_C, -1));
+			printTest("indexed_ABCD_splitAt2_testTailIndexOfD", testIndexOf(tail, ELEMENT_D, 1));
+
+			// spliceAfter
+			list = doubleLinkedListOf();
+			listIt = list.listIterator();
+			printTest("emptyList_spliceAfter0Empty_testContents", testSpliceAfter(list, listIt, doubleLinkedListOf(), Result.NoException)
+					&& testContents(list, empty));
+			list = doubleLinkedListOf();
+			listIt = list.listIterator();
+			other = doubleLinkedListOf(ELEMENT_A);
+			printTest("emptyList_spliceAfter0A_testContents", testSpliceAfter(list, listIt, other, Result.NoException)
+					&& testSameElements(list, a));
+			printTest("emptyList_spliceAfter0A_testOtherIsEmpty", testIsEmpty(other, Result.True));
+			printTest("emptyList_spliceAfter0A_testIterNextIndex", testListIterNextIndex(listIt, 1, Result.MatchingValue));
+			list = doubleLinkedListOf(ELEMENT_C, ELEMENT_D);
+			listIt = list.listIterator();
+			printTest("CD_spliceAfter0AB_testContents", testSpliceAfter(list, listIt, doubleLinkedListOf(ELEMENT_A, ELEMENT_B), Result.NoException)
+					&& testContents(list, abcd) && testSameElements(list, abcd));
+			printTest("CD_spliceAfter0AB_testFirst", testFirst(list, ELEMENT_A, Result.MatchingValue));
+			printTest("CD_spliceAfter0AB_testIterNext", testListIterNext(listIt, ELEMENT_C, Result.MatchingValue));
+			list = doubleLinkedListOf(ELEMENT_A, ELEMENT_B);
+			listIt = list.listIterator(2);
+			printTest("AB_spliceAfter2CD_testContents", testSpliceAfter(list, listIt, doubleLinkedListOf(ELEMENT_C, ELEMENT_D), Result.NoException)
+					&& testContents(list, abcd) && testSameElements(list, abcd));
+			printTest("AB_spliceAfter2CD_testLast", testLast(list, ELEMENT_D, Result.MatchingValue));
+			printTest("AB_spliceAfter2CD_testIterHasNext", testListIterHasNext(listIt, Result.False));
+			printTest("AB_spliceAfter2CD_testIterPrevious", testListIterPrevious(listIt, ELEMENT_D, Result.MatchingValue));
+			list = doubleLinkedListOf(ELEMENT_A, ELEMENT_D);
+			listIt = list.listIterator(1);
+			printTest("AD_spliceAfter1BC_testContents", testSpliceAfter(list, listIt, doubleLinkedListOf(ELEMENT_B, ELEMENT_C), Result.NoException)
+					&& testContents(list, abcd) && testSameElements(list, abcd));
+			printTest("AD_spliceAfter1BC_testIterNextIndex", testListIterNextIndex(listIt, 3, Result.MatchingValue));
+			printTest("AD_spliceAfter1BC_testIterRemoveIllegalState", testListIterRemove(listIt, Result.IllegalState));
+			printTest("AD_spliceAfter1BC_testIterNext", testListIterNext(listIt, ELEMENT_D, Result.MatchingValue));
+			list = doubleLinkedListOf(ELEMENT_A);
+			listIt = list.listIterator(1);
+			printTest("A_spliceAfter1Empty_testContents", testSpliceAfter(list, listIt, doubleLinkedListOf(), Result.NoException)
+					&& testSameElements(list, a));
+			list = doubleLinkedListOf(ELEMENT_A, ELEMENT_B);
+			listIt = list.listIterator(1);
+			printTest("AB_spliceAfter1Self_testIllegalArgument", testSpliceAfter(list, listIt, list, Result.IllegalArgument));
+			printTest("AB_spliceAfter1Self_testContents", testContents(list, ab) && testSameElements(list, ab));
+			printTest("AB_spliceAfter1Self_testIterNext", testListIterNext(listIt, ELEMENT_B, Result.MatchingValue));
+			list = doubleLinkedListOf(ELEMENT_A, ELEMENT_B);
+			listIt = doubleLinkedListOf(ELEMENT_A, ELEMENT_B).listIterator(1);
+			printTest("AB_spliceAfterOtherListIter_testIllegalArgument", testSpliceAfter(list, listIt, doubleLinkedListOf(ELEMENT_C), Result.IllegalArgument));
+			list = doubleLinkedListOf(ELEMENT_A, ELEMENT_B);
+			listIt = list.listIterator(1);
+			list.removeLast();
+			printTest("AB_iter_removeLast_spliceAfter_testConcurrentModification", testSpliceAfter(list, listIt, doubleLinkedListOf(ELEMENT_C), Result.ConcurrentModification));
+			list = doubleLinkedListOf(ELEMENT_A, ELEMENT_D);
+			list.enableNodeIndex();
+			list.spliceAfter(list.listIterator(1), doubleLinkedListOf(ELEMENT_B, ELEMENT_C));
+			printTest("indexed_AD_spliceAfter1BC_testIndexOfD", testIndexOf(list, ELEMENT_D, 3));
+			printTest("indexed_AD_spliceAfter1BC_removeB_testIndexOfC", testRemoveElement(list, ELEMENT_B, Result.MatchingValue)
+					&& testIndexOf(list, ELEMENT_C, 1));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_DoubleLinkedListSplice");
+			e.printStackTrace();
+		} finally {
+			closeOpenLists();
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** run IUDoubleLinkedList descendingIterator and reversed view tests: the view mirrors every read and writes through to the list */
+	private void test_DoubleLinkedListReversed() {
+		System.out.println("\nIUDoubleLinkedList Reversed View Tests\n");
+		Integer[] empty = {};
+		Integer[] a = {ELEMENT_A};
+		Integer[] ab = {ELEMENT_A, ELEMENT_B};
+		Integer[] abc = {ELEMENT_A, ELEMENT_B, ELEMENT_C};
+		Integer[] cba = {ELEMENT_C, ELEMENT_B, ELEMENT_A};
+		try {
+			// descendingIterator
+			IUDoubleLinkedList<Integer> list = doubleLinkedListOf();
+			Iterator<Integer> it = list.descendingIterator();
+			printTest("emptyList_descendingIter_testHasNext", testIterHasNext(it, Result.False));
+			printTest("emptyList_descendingIter_testNext", testIterNext(it, null, Result.NoSuchElement));
+			printTest("emptyList_descendingIter_testRemove", testIterRemove(it, Result.IllegalState));
+			list = doubleLinkedListOf(ELEMENT_A);
+			IUDoubleLinkedList<Integer> descending = list;
+			printTest("A_descendingIter_testContents", testContents(() -> descending.descendingIterator(), a));
+			it = list.descendingIterator();
+			it.next();
+			printTest("A_descendingIter_next_testRemove", testIterRemove(it, Result.NoException) && testIsEmpty(list, Result.True));
+			printTest("A_descendingIter_nextRemove_testHasNext", testIterHasNext(it, Result.False));
+			list = doubleLinkedListOf(abc);
+			IUDoubleLinkedList<Integer> descendingABC = list;
+			printTest("ABC_descendingIter_testContents", testContents(() -> descendingABC.descendingIterator(), cba));
+			it = list.descendingIterator();
+			it.next();
+			printTest("ABC_descendingIter_next_testRemove", testIterRemove(it, Result.NoException) && testContents(list, ab));
+			printTest("ABC_descendingIter_nextRemove_testNext", testIterNext(it, ELEMENT_B, Result.MatchingValue));
+			printTest("ABC_descendingIter_nextRemove_testLast", testLast(list, ELEMENT_B, Result.MatchingValue));
+			it = list.descendingIterator();
+			list.addToRear(ELEMENT_X);
+			printTest("AB_descendingIter_addToRearX_testHasNextConcurrent", testIterHasNext(it, Result.ConcurrentModification));
+
+			// reads through the view
+			IndexedUnsortedList<Integer> view = doubleLinkedListOf().reversed();
+			printTest("emptyList_reversed_testIsEmpty", testIsEmpty(view, Result.True));
+			printTest("emptyList_reversed_testFirst", testFirst(view, null, Result.NoSuchElement));
+			printTest("emptyList_reversed_testLast", testLast(view, null, Result.NoSuchElement));
+			printTest("emptyList_reversed_testRemoveFirst", testRemoveFirst(view, null, Result.NoSuchElement));
+			printTest("emptyList_reversed_testGet0", testGet(view, 0, null, Result.IndexOutOfBounds));
+			printTest("emptyList_reversed_testListIter1", testListIter(view, 1, Result.IndexOutOfBounds));
+			printTest("emptyList_reversed_testContents", testContents(view, empty));
+			view = doubleLinkedListOf(ELEMENT_A).reversed();
+			printTest("A_reversed_testFirst", testFirst(view, ELEMENT_A, Result.MatchingValue));
+			printTest("A_reversed_testLast", testLast(view, ELEMENT_A, Result.MatchingValue));
+			printTest("A_reversed_testIndexOfA", testIndexOf(view, ELEMENT_A, 0));
+			printTest("A_reversed_testGet0", testGet(view, 0, ELEMENT_A, Result.MatchingValue));
+			view = doubleLinkedListOf(abc).reversed();
+			printTest("ABC_reversed_testContents", testContents(view, cba));
+			printTest("ABC_reversed_testSize", testSize(view, 3));
+			printTest("ABC_reversed_testFirst", testFirst(view, ELEMENT_C, Result.MatchingValue));
+			printTest("ABC_reversed_testLast", testLast(view, ELEMENT_A, Result.MatchingValue));
+			printTest("ABC_reversed_testGet0", testGet(view, 0, ELEMENT_C, Result.MatchingValue));
+			printTest("ABC_reversed_testGet2", testGet(view, 2, ELEMENT_A, Result.MatchingValue));
+			printTest("ABC_reversed_testGet3", testGet(view, 3, null, Result.IndexOutOfBounds));
+			printTest("ABC_reversed_testIndexOfA", testIndexOf(view, ELEMENT_A, 2));
+			printTest("ABC_reversed_testContainsB", testContains(view, ELEMENT_B, Result.True));
+			view = doubleLinkedListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C, ELEMENT_B).reversed();
+			printTest("ABCB_reversed_testIndexOfB", testIndexOf(view, ELEMENT_B, 0));
+
+			// writes through the view show in the list
+			list = doubleLinkedListOf(abc);
+			view = list.reversed();
+			printTest("ABC_reversed_addToFrontX_testContents", testAddToFront(view, ELEMENT_X, Result.NoException)
+					&& testContents(list, new Integer[] {ELEMENT_A, ELEMENT_B, ELEMENT_C, ELEMENT_X}));
+			printTest("ABC_reversed_addToFrontX_testLast", testLast(list, ELEMENT_X, Result.MatchingValue));
+			list = doubleLinkedListOf(abc);
+			view = list.reversed();
+			printTest("ABC_reversed_addToRearX_testContents", testAddToRear(view, ELEMENT_X, Result.NoException)
+					&& testContents(list, new Integer[] {ELEMENT_X, ELEMENT_A, ELEMENT_B, ELEMENT_C}));
+			list = doubleLinkedListOf();
+			view = list.reversed();
+			printTest("emptyList_reversed_addToFrontA_testContents", testAddToFront(view, ELEMENT_A, Result.NoException)
+					&& testContents(list, a) && testSameElements(list, a));
+			list = doubleLinkedListOf(abc);
+			view = list.reversed();
+			printTest("ABC_reversed_add1X_testContents", testAddAtIndex(view, 1, ELEMENT_X, Result.NoException)
+					&& testContents(list, new Integer[] {ELEMENT_A, ELEMENT_B, ELEMENT_X, ELEMENT_C}));
+			list = doubleLinkedListOf(abc);
+			view = list.reversed();
+			printTest("ABC_reversed_add3X_testContents", testAddAtIndex(view, 3, ELEMENT_X, Result.NoException)
+					&& testContents(list, new Integer[] {ELEMENT_X, ELEMENT_A, ELEMENT_B, ELEMENT_C}));
+			printTest("XABC_reversed_add5X_testIndexOutOfBounds", testAddAtIndex(view, 5, ELEMENT_X, Result.IndexOutOfBounds));
+			list = doubleLinkedListOf(abc);
+			view = list.reversed();
+			printTest("ABC_reversed_addAfterXB_testContents", testAddAfter(view, ELEMENT_B, ELEMENT_X, Result.NoException)
+					&& testContents(list, new Integer[] {ELEMENT_A, ELEMENT_X, ELEMENT_B, ELEMENT_C}));
+			list = doubleLinkedListOf(ELEMENT_A, ELEMENT_B, ELEMENT_A);
+			view = list.reversed();
+			printTest("ABA_reversed_addAfterXA_testContents", testAddAfter(view, ELEMENT_A, ELEMENT_X, Result.NoException)
+					&& testContents(list, new Integer[] {ELEMENT_A, ELEMENT_B, ELEMENT_X, ELEMENT_A}));
+			printTest("ABXA_reversed_addAfterXD_testNoSuchElement", testAddAfter(view, ELEMENT_D, ELEMENT_X, Result.NoSuchElement));
+			list = doubleLinkedListOf(abc);
+			view = list.reversed();
+			printTest("ABC_reversed_set0X_testContents", testSet(view, 0, ELEMENT_X, Result.NoException)
+					&& testContents(list, new Integer[] {ELEMENT_A, ELEMENT_B, ELEMENT_X}));
+			list = doubleLinkedListOf(abc);
+			view = list.reversed();
+			printTest("ABC_reversed_remove0_testContents", testRemoveIndex(view, 0, ELEMENT_C, Result.MatchingValue)
+					&& testContents(list, ab) && testSameElements(list, ab));
+			list = doubleLinkedListOf(abc);
+			view = list.reversed();
+			printTest("ABC_reversed_removeFirst_testContents", testRemoveFirst(view, ELEMENT_C, Result.MatchingValue) && testContents(list, ab));
+			printTest("AB_reversed_removeLast_testContents", testRemoveLast(view, ELEMENT_A, Result.MatchingValue)
+					&& testContents(list, new Integer[] {ELEMENT_B}));
+			list = doubleLinkedListOf(ELEMENT_A, ELEMENT_B, ELEMENT_A);
+			view = list.reversed();
+			printTest("ABA_reversed_removeA_testContents", testRemoveElement(view, ELEMENT_A, Result.MatchingValue)
+					&& testContents(list, ab) && testSameElements(list, ab));
+			list = doubleLinkedListOf(abc);
+			view = list.reversed();
+			list.addToRear(ELEMENT_D);
+			printTest("ABC_reversed_addToRearD_testContents", testContents(view, new Integer[] {ELEMENT_D, ELEMENT_C, ELEMENT_B, ELEMENT_A}));
+			printTest("ABCD_reversed_testFirst", testFirst(view, ELEMENT_D, Result.MatchingValue));
+
+			// list iterators of the view
+			list = doubleLinkedListOf(abc);
+			view = list.reversed();
+			ListIterator<Integer> listIt = view.listIterator();
+			printTest("ABC_reversedListIter_testNext", testListIterNext(listIt, ELEMENT_C, Result.MatchingValue));
+			printTest("ABC_reversedListIter_next_testSetX", testListIterSet(listIt, ELEMENT_X, Result.NoException)
+					&& testContents(list, new Integer[] {ELEMENT_A, ELEMENT_B, ELEMENT_X}));
+			printTest("ABX_reversedListIter_nextSet_testNextIndex", testListIterNextIndex(listIt, 1, Result.MatchingValue));
+			list = doubleLinkedListOf(abc);
+			view = list.reversed();
+			listIt = view.listIterator(1);
+			printTest("ABC_reversedListIter1_testAddX", testListIterAdd(listIt, ELEMENT_X, Result.NoException)
+					&& testContents(list, new Integer[] {ELEMENT_A, ELEMENT_B, ELEMENT_X, ELEMENT_C}));
+			printTest("ABXC_reversedListIter1_add_testNextIndex", testListIterNextIndex(listIt, 2, Result.MatchingValue));
+			printTest("ABXC_reversedListIter1_add_testRemove", testListIterRemove(listIt, Result.IllegalState));
+			printTest("ABXC_reversedListIter1_add_testNext", testListIterNext(listIt, ELEMENT_B, Result.MatchingValue));
+			list = doubleLinkedListOf(abc);
+			view = list.reversed();
+			listIt = view.listIterator(3);
+			printTest("ABC_reversedListIter3_testHasNext", testListIterHasNext(listIt, Result.False));
+			printTest("ABC_reversedListIter3_testPrevious", testListIterPrevious(listIt, ELEMENT_A, Result.MatchingValue));
+			printTest("ABC_reversedListIter3_previous_testRemove", testListIterRemove(listIt, Result.NoException)
+					&& testContents(list, new Integer[] {ELEMENT_B, ELEMENT_C}));
+			printTest("BC_reversedListIter3_previousRemove_testPreviousIndex", testListIterPreviousIndex(listIt, 1, Result.MatchingValue));
+			printTest("BC_reversedListIter3_testIndexOutOfBounds", testListIter(view, 3, Result.IndexOutOfBounds));
+			list = doubleLinkedListOf(abc);
+			view = list.reversed();
+			listIt = view.listIterator();
+			list.addToFront(ELEMENT_X);
+			printTest("ABC_reversedListIter_addToFrontX_testHasNextConcurrent", testListIterHasNext(listIt, Result.ConcurrentModification));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_DoubleLinkedListReversed");
+			e.printStackTrace();
+		} finally {
+			closeOpenLists();
 			if (printSectionSummaries) {
 				printSectionSummary();
 			}
 		}
 	}
 
-	
 }// end class IndexedUnsortedListTester
 
 /** Interface for builder method Lambda references used above */
@@ -0,0 +1,128 @@
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Lock-free, thread-safe double-ended queue for sharing ducks between
+ * many producer and consumer threads without a global lock.
+ * Operations at either end are linearizable and never block: each one
+ * completes with compare-and-set on the links of the end node, so
+ * throughput keeps scaling as threads are added instead of serializing
+ * on a monitor. Backed by ConcurrentLinkedDeque, which implements the
+ * CAS-on-links algorithm.
+ *
+ * size() walks the deque and is only a snapshot when other threads are
+ * active. Iterators are weakly consistent: they never throw
+ * ConcurrentModificationException and see every element present for
+ * their whole lifetime, and may or may not see concurrent changes.
+ * Null elements are not allowed.
+ *
+ * @see DequeStressTester
+ *
+ * @param <E> type to store
+ */
+public class LockFreeDeque<E> implements Iterable<E> {
+	private final ConcurrentLinkedDeque<E> deque;
+
+	/** Creates an empty deque */
+	public LockFreeDeque() {
+		deque = new ConcurrentLinkedDeque<E>();
+	}
+
+	/**
+	 * Adds element to the front of the deque
+	 * @param element element to add, not null
+	 * @throws NullPointerException if element is null
+	 */
+	public void addToFront(E element) {
+		deque.addFirst(element);
+	}
+
+	/**
+	 * Adds element to the rear of the deque
+	 * @param element element to add, not null
+	 * @throws NullPointerException if element is null
+	 */
+	public void addToRear(E element) {
+		deque.addLast(element);
+	}
+
+	/**
+	 * Removes and returns the first element
+	 * @return the removed element
+	 * @throws NoSuchElementException if the deque is empty
+	 */
+	public E removeFirst() {
+		return deque.removeFirst();
+	}
+
+	/**
+	 * Removes and returns the last element
+	 * @return the removed element
+	 * @throws NoSuchElementException if the deque is empty
+	 */
+	public E removeLast() {
+		return deque.removeLast();
+	}
+
+	/**
+	 * Removes and returns the first element. Unlike removeFirst, an empty
+	 * deque is an expected outcome for a consumer racing other consumers.
+	 * @return the removed element, or null if the deque is empty
+	 */
+	public E pollFirst() {
+		return deque.pollFirst();
+	}
+
+	/**
+	 * Removes and returns the last element
+	 * @return the removed element, or null if the deque is empty
+	 */
+	public E pollLast() {
+		return deque.pollLast();
+	}
+
+	/**
+	 * @return the first element
+	 * @throws NoSuchElementException if the deque is empty
+	 */
+	public E first() {
+		return deque.getFirst();
+	}
+
+	/**
+	 * @return the last element
+	 * @throws NoSuchElementException if the deque is empty
+	 */
+	public E last() {
+		return deque.getLast();
+	}
+
+	/**
+	 * @return true if the deque held no elements at the moment of the call
+	 */
+	public boolean isEmpty() {
+		return deque.isEmpty();
+	}
+
+	/**
+	 * Counts the elements by walking the deque; O(n), and only a snapshot
+	 * while other threads are adding or removing
+	 * @return number of elements seen
+	 */
+	public int size() {
+		return deque.size();
+	}
+
+	/**
+	 * @return a weakly consistent iterator from front to rear
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		return deque.iterator();
+	}
+
+	@Override
+	public String toString() {
+		return deque.toString();
+	}
+}
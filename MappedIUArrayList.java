@@ -0,0 +1,491 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * File-backed implementation of IndexedUnsortedList for lists larger than
+ * the heap. Elements are stored as fixed-width records, through a
+ * FixedWidthCodec, in memory-mapped segments of the file. Only the header
+ * is mapped when the list is opened; each segment is mapped the first time
+ * it is touched, and the operating system pages data in on demand, so
+ * opening a large list costs the same as opening a small one. A segment
+ * starts with a one-page mapping that doubles, up to the full segment,
+ * as records beyond it are touched, so the file stays within about twice
+ * the size of the records in use instead of jumping to a whole segment.
+ *
+ * The file holds a 16 byte header (magic, record width, element count)
+ * followed by the records in list order. The count is written through on
+ * every change, so a list reopened from the same file after a restart
+ * has the same contents. Call force() to flush to the storage device and
+ * close() when done. Null elements are not supported.
+ *
+ * @param <E> type to store
+ */
+public class MappedIUArrayList<E> implements IndexedUnsortedList<E>, RandomAccess, Closeable {
+	private static final int MAGIC = 0x44554B51; // "DUKQ"
+	private static final int HEADER_BYTES = 16;
+	private static final int COUNT_OFFSET = 8;
+	private static final int DEFAULT_SEGMENT_BYTES = 1 << 26;
+	private static final int MIN_MAPPING_BYTES = 1 << 12; // first mapping of a segment, one page
+	private static final int NOT_FOUND = -1;
+
+	private final FixedWidthCodec<E> codec;
+	private final int width; // bytes per record
+	private final int segmentShift; // log2 of records per segment
+	private FileChannel channel;
+	private MappedByteBuffer header;
+	private MappedByteBuffer[] segments; // null entries are mapped on first use; the rest may cover only a prefix of their segment
+	private byte[] scratch; // one record, used to move records
+	private int rear; // number of records in use
+	private int modCount;
+
+	/**
+	 * Opens the list stored in file, creating an empty one if the file does
+	 * not exist or is empty
+	 * @param file backing file
+	 * @param codec converts elements to and from fixed-width records
+	 * @throws IOException if the file can't be opened or isn't a list written with this record width
+	 */
+	public MappedIUArrayList(Path file, FixedWidthCodec<E> codec) throws IOException {
+		this(file, codec, Math.max(1, DEFAULT_SEGMENT_BYTES / codec.width()));
+	}
+
+	/**
+	 * Opens the list stored in file, creating an empty one if the file does
+	 * not exist or is empty
+	 * @param file backing file
+	 * @param codec converts elements to and from fixed-width records
+	 * @param recordsPerSegment records in each mapped segment, rounded down to a power of two
+	 * @throws IOException if the file can't be opened or isn't a list written with this record width
+	 */
+	public MappedIUArrayList(Path file, FixedWidthCodec<E> codec, int recordsPerSegment) throws IOException {
+		this.codec = codec;
+		this.width = codec.width();
+		this.segmentShift = 31 - Integer.numberOfLeadingZeros(Math.max(1, recordsPerSegment));
+		if ((long)width << segmentShift > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("segment larger than 2GB");
+		}
+		this.scratch = new byte[width];
+
+		channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			long fileBytes = channel.size();
+			if (fileBytes > 0 && fileBytes < HEADER_BYTES) {
+				throw new IOException(file + " is too short to hold a list header");
+			}
+			header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+			if (fileBytes == 0) {
+				header.putInt(0, MAGIC);
+				header.putInt(4, width);
+				header.putLong(COUNT_OFFSET, 0);
+				rear = 0;
+			} else {
+				if (header.getInt(0) != MAGIC || header.getInt(4) != width) {
+					throw new IOException(file + " is not a list of " + width + " byte records");
+				}
+				rear = (int)header.getLong(COUNT_OFFSET);
+			}
+		} catch (IOException | RuntimeException e) {
+			// don't leak the channel of a list that was never constructed
+			channel.close();
+			throw e;
+		}
+
+		int segmentCount = 1;
+		while (((long)segmentCount << segmentShift) < rear) {
+			segmentCount *= 2;
+		}
+		segments = new MappedByteBuffer[segmentCount];
+		modCount = 0;
+	}
+
+	/** Double the number of segments; like expandCapacity, new segments are only mapped when used */
+	private void expandCapacity() {
+		segments = Arrays.copyOf(segments, segments.length * 2);
+	}
+
+	/**
+	 * Returns the mapped segment holding a record, mapping it on first use
+	 * and remapping it twice as long when the record lies past the end of
+	 * the current mapping. A remap covers the same file pages, so records
+	 * already written stay visible through it.
+	 * @param index record index
+	 * @return buffer covering at least the record
+	 */
+	private MappedByteBuffer segment(int index) {
+		checkOpen();
+		int s = index >>> segmentShift;
+		MappedByteBuffer segment = segments[s];
+		int end = offset(index) + width;
+		if (segment == null || segment.capacity() < end) {
+			int segmentBytes = width << segmentShift;
+			long length = (segment == null) ? MIN_MAPPING_BYTES : segment.capacity() * 2L;
+			while (length < end) {
+				length *= 2;
+			}
+			try {
+				segment = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES + (long)s * segmentBytes,
+						Math.min(length, segmentBytes));
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			segments[s] = segment;
+		}
+		return segment;
+	}
+
+	/**
+	 * @throws IllegalStateException if the list has been closed
+	 */
+	private void checkOpen() {
+		if (channel == null) {
+			throw new IllegalStateException("list is closed");
+		}
+	}
+
+	/**
+	 * @param index record index
+	 * @return byte offset of the record inside its segment
+	 */
+	private int offset(int index) {
+		return (index & ((1 << segmentShift) - 1)) * width;
+	}
+
+	private E read(int index) {
+		return codec.decode(segment(index), offset(index));
+	}
+
+	private void write(int index, E element) {
+		codec.encode(Objects.requireNonNull(element), segment(index), offset(index));
+	}
+
+	/** Copies the bytes of record from into record to */
+	private void move(int from, int to) {
+		segment(from).get(offset(from), scratch);
+		segment(to).put(offset(to), scratch);
+	}
+
+	/** Writes the element count through to the header */
+	private void setCount(int count) {
+		rear = count;
+		header.putLong(COUNT_OFFSET, count);
+	}
+
+	/**
+	 * Flushes every mapped segment and the header to the storage device
+	 * @throws IllegalStateException if the list has been closed
+	 */
+	public void force() {
+		checkOpen();
+		for (MappedByteBuffer segment : segments) {
+			if (segment != null) {
+				segment.force();
+			}
+		}
+		header.force();
+	}
+
+	/**
+	 * Flushes and closes the backing file. The mappings are released when
+	 * they are garbage collected; the list can't be used afterwards.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (channel != null) {
+			force();
+			channel.close();
+			channel = null;
+			segments = null;
+		}
+	}
+
+	@Override
+	public void addToFront(E element) {
+		addElement(0, element);
+	}
+
+	@Override
+	public void addToRear(E element) {
+		addElement(rear, element);
+	}
+
+	@Override
+	public void add(E element) {
+		addToRear(element);
+	}
+
+	@Override
+	public void addAfter(E element, E target) {
+		int index = indexOf(target);
+		if (index == NOT_FOUND) {
+			throw new NoSuchElementException();
+		}
+		addElement(index + 1, element);
+	}
+
+	@Override
+	public void add(int index, E element) {
+		addElement(index, element);
+	}
+
+	@Override
+	public E removeFirst() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return removeElement(0);
+	}
+
+	@Override
+	public E removeLast() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return removeElement(rear - 1);
+	}
+
+	@Override
+	public E remove(E element) {
+		int index = indexOf(element);
+		if (index == NOT_FOUND) {
+			throw new NoSuchElementException();
+		}
+		return removeElement(index);
+	}
+
+	@Override
+	public E remove(int index) {
+		return removeElement(index);
+	}
+
+	@Override
+	public void set(int index, E element) {
+		if (index < 0 || index >= rear) {
+			throw new IndexOutOfBoundsException();
+		}
+		write(index, element);
+		modCount++;
+	}
+
+	@Override
+	public E get(int index) {
+		if (index < 0 || index >= rear) {
+			throw new IndexOutOfBoundsException();
+		}
+		return read(index);
+	}
+
+	@Override
+	public int indexOf(E element) {
+		if (element == null) {
+			return NOT_FOUND;
+		}
+		for (int i = 0; i < rear; i++) {
+			if (element.equals(read(i))) {
+				return i;
+			}
+		}
+		return NOT_FOUND;
+	}
+
+	@Override
+	public E first() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return read(0);
+	}
+
+	@Override
+	public E last() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return read(rear - 1);
+	}
+
+	@Override
+	public boolean contains(E target) {
+		return indexOf(target) != NOT_FOUND;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return rear == 0;
+	}
+
+	@Override
+	public int size() {
+		return rear;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder result = new StringBuilder("[");
+		for (int i = 0; i < rear; i++) {
+			result.append(read(i));
+			if (i < rear - 1) {
+				result.append(", ");
+			}
+		}
+		return result.append("]").toString();
+	}
+
+	// Helper methods
+
+	private E removeElement(int index) {
+		if (index < 0 || index >= rear) { throw new IndexOutOfBoundsException(); }
+		E result = read(index);
+
+		for (int i = index; i < rear - 1; i++) {
+			move(i + 1, i);
+		}
+		setCount(rear - 1);
+		modCount++;
+
+		return result;
+	}
+
+	private void addElement(int index, E element) {
+		if (index > rear || index < 0) { throw new IndexOutOfBoundsException(); }
+		Objects.requireNonNull(element);
+		if (rear == segments.length << segmentShift) { expandCapacity(); }
+
+		for (int i = rear; i > index; i--) {
+			move(i - 1, i);
+		}
+		write(index, element);
+		setCount(rear + 1);
+		modCount++;
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return new MappedListIterator(0);
+	}
+
+	@Override
+	public ListIterator<E> listIterator() {
+		return new MappedListIterator(0);
+	}
+
+	@Override
+	public ListIterator<E> listIterator(int startingIndex) {
+		if (startingIndex < 0 || startingIndex > rear) {
+			throw new IndexOutOfBoundsException();
+		}
+		return new MappedListIterator(startingIndex);
+	}
+
+	/**
+	 * ListIterator for MappedIUArrayList, tracking positions by record index
+	 */
+	private class MappedListIterator implements ListIterator<E> {
+		private int nextIndex;
+		private int lastReturned; // index of last element returned by next() or previous()
+		private int iterModCount;
+
+		/**
+		 * creates a new list iterator starting at the specified index
+		 * @param startingIndex index at which to start the iterator
+		 */
+		public MappedListIterator(int startingIndex) {
+			nextIndex = startingIndex;
+			lastReturned = NOT_FOUND;
+			iterModCount = modCount;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex < rear;
+		}
+
+		@Override
+		public E next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = nextIndex++;
+			return read(lastReturned);
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex > 0;
+		}
+
+		@Override
+		public E previous() {
+			if (!hasPrevious()) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = --nextIndex;
+			return read(lastReturned);
+		}
+
+		@Override
+		public int nextIndex() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex;
+		}
+
+		@Override
+		public int previousIndex() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex - 1;
+		}
+
+		@Override
+		public void remove() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (lastReturned == NOT_FOUND) {
+				throw new IllegalStateException();
+			}
+			removeElement(lastReturned);
+			if (lastReturned < nextIndex) {
+				nextIndex--;
+			}
+			lastReturned = NOT_FOUND;
+			iterModCount = modCount;
+		}
+
+		@Override
+		public void set(E e) {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (lastReturned == NOT_FOUND) {
+				throw new IllegalStateException();
+			}
+			MappedIUArrayList.this.set(lastReturned, e);
+			iterModCount = modCount;
+		}
+
+		@Override
+		public void add(E e) {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			addElement(nextIndex++, e);
+			lastReturned = NOT_FOUND;
+			iterModCount = modCount;
+		}
+	}
+}
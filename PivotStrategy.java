@@ -0,0 +1,85 @@
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Chooses the pivot position for one quicksort partition step. A good
+ * choice splits the range near its median; sampling more than one element
+ * keeps sorted, reverse sorted and organ-pipe input from producing
+ * lopsided partitions.
+ *
+ * @see Sort
+ */
+public interface PivotStrategy {
+	/** Median of the first, middle and last elements */
+	public static final PivotStrategy MEDIAN_OF_THREE = new PivotStrategy() {
+		@Override
+		public <E> int choose(IndexedUnsortedList<E> list, int low, int high, Comparator<? super E> c) {
+			return medianOfThree(list, low, low + (high - low) / 2, high, c);
+		}
+	};
+
+	/**
+	 * Tukey's ninther: the median of three medians of three, taken from
+	 * nine evenly spaced elements. Falls back to MEDIAN_OF_THREE for
+	 * ranges of 40 elements or fewer, where the extra samples don't pay.
+	 */
+	public static final PivotStrategy NINTHER = new PivotStrategy() {
+		@Override
+		public <E> int choose(IndexedUnsortedList<E> list, int low, int high, Comparator<? super E> c) {
+			int middle = low + (high - low) / 2;
+			if (high - low < 40) {
+				return medianOfThree(list, low, middle, high, c);
+			}
+			int step = (high - low) / 8;
+			return medianOfThree(list,
+					medianOfThree(list, low, low + step, low + 2 * step, c),
+					medianOfThree(list, middle - step, middle, middle + step, c),
+					medianOfThree(list, high - 2 * step, high - step, high, c),
+					c);
+		}
+	};
+
+	/** A uniformly random element, so no fixed input is reliably bad */
+	public static final PivotStrategy RANDOM = new PivotStrategy() {
+		@Override
+		public <E> int choose(IndexedUnsortedList<E> list, int low, int high, Comparator<? super E> c) {
+			return ThreadLocalRandom.current().nextInt(low, high + 1);
+		}
+	};
+
+	/**
+	 * Returns the index of the pivot for partitioning list positions low
+	 * through high
+	 * @param list list being sorted
+	 * @param low first index of the range, low < high
+	 * @param high last index of the range
+	 * @param c ordering being sorted by
+	 * @return index of the pivot, low <= index <= high
+	 */
+	public <E> int choose(IndexedUnsortedList<E> list, int low, int high, Comparator<? super E> c);
+
+	/**
+	 * Returns whichever of three positions holds the median element
+	 * @param list list being sorted
+	 * @param a first position
+	 * @param b second position
+	 * @param d third position
+	 * @param c ordering being sorted by
+	 * @return a, b or d
+	 */
+	public static <E> int medianOfThree(IndexedUnsortedList<E> list, int a, int b, int d, Comparator<? super E> c) {
+		E x = list.get(a);
+		E y = list.get(b);
+		E z = list.get(d);
+		if (c.compare(x, y) < 0) {
+			if (c.compare(y, z) < 0) {
+				return b;
+			}
+			return (c.compare(x, z) < 0) ? d : a;
+		}
+		if (c.compare(x, z) < 0) {
+			return a;
+		}
+		return (c.compare(y, z) < 0) ? d : b;
+	}
+}
@@ -0,0 +1,62 @@
+/**
+ * CapacityPolicy that grows geometrically by a fixed factor, optionally
+ * capped at a maximum number of slots per growth step, and shrinks once
+ * the list falls below a fraction of its capacity.
+ * 
+ * The shrink threshold must be below 1 / growthFactor. After a shrink the
+ * array is sized to size * growthFactor, so the list has to lose or gain a
+ * good share of its elements before the next reallocation instead of
+ * thrashing at the boundary.
+ */
+public class ScalingCapacityPolicy implements CapacityPolicy {
+	private static final int MINIMUM_CAPACITY = 10;
+
+	private final double growthFactor;
+	private final int maxStep;
+	private final double shrinkThreshold;
+
+	/**
+	 * Creates a policy
+	 * @param growthFactor multiplier applied to the capacity when full, greater than 1
+	 * @param maxStep most slots added by a single growth, at least 1
+	 * @param shrinkThreshold fraction of capacity in use below which the array
+	 *        shrinks, 0 to never shrink
+	 * @throws IllegalArgumentException if an argument is out of range
+	 */
+	public ScalingCapacityPolicy(double growthFactor, int maxStep, double shrinkThreshold) {
+		if (!(growthFactor > 1.0)) {
+			throw new IllegalArgumentException("growthFactor must be greater than 1: " + growthFactor);
+		}
+		if (maxStep < 1) {
+			throw new IllegalArgumentException("maxStep must be positive: " + maxStep);
+		}
+		if (shrinkThreshold < 0.0 || shrinkThreshold >= 1.0 / growthFactor) {
+			throw new IllegalArgumentException("shrinkThreshold must be in [0, 1/growthFactor): " + shrinkThreshold);
+		}
+		this.growthFactor = growthFactor;
+		this.maxStep = maxStep;
+		this.shrinkThreshold = shrinkThreshold;
+	}
+
+	@Override
+	public int grow(int capacity, int required) {
+		long grown = (long)Math.ceil(capacity * growthFactor);
+		grown = Math.min(grown, (long)capacity + maxStep);
+		grown = Math.max(grown, Math.max(required, MINIMUM_CAPACITY));
+		return (int)Math.min(grown, Integer.MAX_VALUE - 8);
+	}
+
+	@Override
+	public int shrink(int capacity, int size) {
+		if (capacity <= MINIMUM_CAPACITY || size >= capacity * shrinkThreshold) {
+			return capacity;
+		}
+		return (int)Math.max(MINIMUM_CAPACITY, Math.ceil(size * growthFactor));
+	}
+
+	@Override
+	public String toString() {
+		return "ScalingCapacityPolicy[growthFactor=" + growthFactor + ", maxStep=" + maxStep
+				+ ", shrinkThreshold=" + shrinkThreshold + "]";
+	}
+}
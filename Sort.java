@@ -1,24 +1,40 @@
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Class for sorting lists that implement the IndexedUnsortedList interface,
  * using ordering defined by class of objects in list or a Comparator.
- * As written uses Quicksort algorithm.
+ * Lists sorted through get and set use introsort: quicksort partitions
+ * around pivots chosen by a PivotStrategy, partitions of
+ * INSERTION_SORT_THRESHOLD or fewer elements are finished by insertion
+ * sort, and a range still being partitioned after 2*log2(n) levels falls
+ * back to heapsort, so no input takes more than O(n log n) time or
+ * O(log n) stack. sortWithPivots picks the PivotStrategy.
+ *
+ * sort(list) and sort(list, c) run the SortStrategy that strategyFor
+ * picks for the list: IUDoubleLinkedLists are merge sorted by relinking
+ * their nodes, IUArrayLists are sorted in their backing array, other
+ * RandomAccess lists are introsorted in place through get and set, and
+ * the rest are copied to an array, sorted and copied back. Callers can
+ * force a strategy with sortWithStrategy(list, c, strategy).
+ *
+ * parallelSort copies the list into an array and merge sorts it with
+ * fork/join tasks, splitting both the sorting and the merging across
+ * threads down to PARALLEL_THRESHOLD elements. It is stable for every
+ * kind of list.
  *
  * @author CPSC 221 Instructors
  */
 public class Sort {	
-	/**
-	 * Returns a new list that implements the IndexedUnsortedList interface. 
-	 * As configured, uses WrappedDLL. Must be changed if using 
-	 * your own IUDoubleLinkedList class. 
-	 * 
-	 * @return a new list that implements the IndexedUnsortedList interface
-	 */
-	private static <E> IndexedUnsortedList<E> newList() {
-		return new WrappedDLL<E>();
-	}
-	
+	/** Partitions this small or smaller are finished by insertion sort */
+	private static final int INSERTION_SORT_THRESHOLD = 16;
+	/** Ranges this small or smaller are sorted or merged by one task */
+	private static final int PARALLEL_THRESHOLD = 1 << 13;
+
 	/**
 	 * Sorts a list that implements the IndexedUnsortedList interface 
 	 * using compareTo() method defined by class of objects in list.
@@ -50,57 +66,202 @@ public class Sort {
 	public static <E> void sort(IndexedUnsortedList <E> list, Comparator<E> c) {
 		quicksort(list, c);
 	}
-	
+
 	/**
-	 * Quicksort algorithm to sort objects in a list 
-	 * that implements the IndexedUnsortedList interface, 
-	 * using compareTo() method defined by class of objects in list.
-	 * DO NOT MODIFY THIS METHOD SIGNATURE
+	 * Sorts a list that implements the IndexedUnsortedList interface 
+	 * using given Comparator, introsorting with pivots chosen by the
+	 * given strategy. IUDoubleLinkedLists are merge sorted and ignore it.
 	 * 
 	 * @param <E>
-	 *            The class of elements in the list, must extend Comparable
+	 *            The class of elements in the list
 	 * @param list
 	 *            The list to be sorted, implements IndexedUnsortedList interface 
+	 * @param c
+	 *            The Comparator used
+	 * @param pivots
+	 *            How each partition picks its pivot
+	 * @see PivotStrategy
 	 */
-	private static <E extends Comparable<E>> void quicksort(IndexedUnsortedList<E> list) {
+	public static <E> void sortWithPivots(IndexedUnsortedList<E> list, Comparator<E> c, PivotStrategy pivots) {
+		quicksort(list, c, pivots);
+	}
 
-		if (list.size() <= 1) {
-			return;
+	/**
+	 * Sorts a list that implements the IndexedUnsortedList interface 
+	 * using given Comparator and the given strategy instead of the one
+	 * strategyFor would pick.
+	 * 
+	 * @param <E>
+	 *            The class of elements in the list
+	 * @param list
+	 *            The list to be sorted, implements IndexedUnsortedList interface 
+	 * @param c
+	 *            The Comparator used
+	 * @param strategy
+	 *            How to sort the list
+	 * @throws IllegalArgumentException
+	 *            if strategy doesn't support this kind of list
+	 * @see SortStrategy
+	 */
+	public static <E> void sortWithStrategy(IndexedUnsortedList<E> list, Comparator<E> c, SortStrategy strategy) {
+		strategy.sort(list, c);
+	}
+
+	/**
+	 * Returns the strategy sort(list, c) uses for a list: RELINK for an
+	 * IUDoubleLinkedList, BACKING_ARRAY for an IUArrayList, IN_PLACE for
+	 * other RandomAccess lists and COPY for everything else.
+	 * 
+	 * @param list
+	 *            The list to be sorted
+	 * @return the fastest strategy that supports list
+	 * @see SortStrategy
+	 */
+	public static SortStrategy strategyFor(IndexedUnsortedList<?> list) {
+		if (SortStrategy.RELINK.supports(list)) {
+			return SortStrategy.RELINK;
 		}
-		
-		E pivot = list.removeFirst();
+		if (SortStrategy.BACKING_ARRAY.supports(list)) {
+			return SortStrategy.BACKING_ARRAY;
+		}
+		if (SortStrategy.IN_PLACE.supports(list)) {
+			return SortStrategy.IN_PLACE;
+		}
+		return SortStrategy.COPY;
+	}
 
-		IndexedUnsortedList<E> left = new WrappedDLL<E>();
-		IndexedUnsortedList<E> right = new WrappedDLL<E>();
+	/**
+	 * Sorts a list that implements the IndexedUnsortedList interface 
+	 * using given Comparator, in parallel on the common ForkJoinPool.
+	 * See parallelSort(list, c, pool).
+	 * 
+	 * @param <E>
+	 *            The class of elements in the list
+	 * @param list
+	 *            The list to be sorted, implements IndexedUnsortedList interface 
+	 * @param c
+	 *            The Comparator used
+	 * @see IndexedUnsortedList 
+	 */
+	public static <E> void parallelSort(IndexedUnsortedList<E> list, Comparator<E> c) {
+		parallelSort(list, c, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Sorts a list that implements the IndexedUnsortedList interface 
+	 * using given Comparator, in parallel on the given ForkJoinPool.
+	 * The list is copied to an array, stable merge sorted and written
+	 * back, so equal elements keep their order whatever kind of list it
+	 * is, and the list must not be changed by other threads meanwhile.
+	 * Lists of PARALLEL_THRESHOLD or fewer elements are sorted by the
+	 * calling thread with Arrays.sort, also stable, and pool is not used.
+	 * If c throws, the list is left unchanged.
+	 * 
+	 * @param <E>
+	 *            The class of elements in the list
+	 * @param list
+	 *            The list to be sorted, implements IndexedUnsortedList interface 
+	 * @param c
+	 *            The Comparator used, or null for the elements' natural
+	 *            ordering, as with Arrays.sort
+	 * @param pool
+	 *            The pool to run the sort on
+	 * @see IndexedUnsortedList 
+	 */
+	public static <E> void parallelSort(IndexedUnsortedList<E> list, Comparator<E> c, ForkJoinPool pool) {
+		if (c == null) {
+			// MergeSortTask calls c directly, so give it the ordering Arrays.sort would use
+			c = naturalOrder();
+		}
+		E[] elements = copyOut(list);
+		int n = elements.length;
+		if (n <= PARALLEL_THRESHOLD) {
+			Arrays.sort(elements, c);
+		} else {
+			pool.invoke(new MergeSortTask<E>(elements, new Object[n], 0, n, false, c));
+		}
+		copyBack(list, elements);
+	}
 
-		while (!list.isEmpty()) {
-			E current = list.removeFirst();
+	/**
+	 * Introsort of the whole list in place through get and set, for
+	 * SortStrategy.IN_PLACE
+	 */
+	static <E> void inPlaceSort(IndexedUnsortedList<E> list, Comparator<E> c) {
+		introsort(list, 0, list.size() - 1, c, PivotStrategy.NINTHER, depthLimit(list.size()));
+	}
 
-			if (current.compareTo(pivot) < 0) {
-				left.addToRear(current);
+	/**
+	 * Copies the list to an array, sorts it with Arrays.sort and writes it
+	 * back, for SortStrategy.COPY
+	 */
+	static <E> void copySort(IndexedUnsortedList<E> list, Comparator<E> c) {
+		E[] elements = copyOut(list);
+		Arrays.sort(elements, c);
+		copyBack(list, elements);
+	}
 
-			} else {
-				right.addToRear(current);
-			}
+	/**
+	 * Copies the elements of a list into a new array in O(n) by iterating
+	 * it; the list itself is left alone, so a sort that throws loses nothing
+	 * @return the elements, in list order
+	 */
+	@SuppressWarnings("unchecked")
+	private static <E> E[] copyOut(IndexedUnsortedList<E> list) {
+		E[] elements = (E[])(new Object[list.size()]);
+		int i = 0;
+		for (E element : list) {
+			elements[i++] = element;
+		}
+		return elements;
+	}
+
+	/**
+	 * Overwrites the list with the elements of an array, in array order,
+	 * with one pass of ListIterator.set; the list's size doesn't change
+	 */
+	private static <E> void copyBack(IndexedUnsortedList<E> list, E[] elements) {
+		ListIterator<E> it = list.listIterator();
+		for (E element : elements) {
+			it.next();
+			it.set(element);
 		}
+	}
 
-		quicksort(left);
-		quicksort(right);
+	/**
+	 * @return compareTo ordering for elements that are Comparable; comparing
+	 *         any that aren't throws ClassCastException, as in Arrays.sort
+	 */
+	@SuppressWarnings("unchecked")
+	private static <E> Comparator<E> naturalOrder() {
+		return (a, b) -> ((Comparable<E>)a).compareTo(b);
+	}
 
+	@SuppressWarnings("unchecked")
+	private static <E> E element(Object[] elements, int i) {
+		return (E)elements[i];
+	}
 
-		while (!left.isEmpty()) {
-			list.addToRear(left.removeFirst());
-		}
-		list.addToRear(pivot);
-    	while (!right.isEmpty()) {
-        	list.addToRear(right.removeFirst());
-        }
-}
+	/**
+	 * Sorts objects in a list 
+	 * that implements the IndexedUnsortedList interface, 
+	 * using compareTo() method defined by class of objects in list.
+	 * DO NOT MODIFY THIS METHOD SIGNATURE
+	 * 
+	 * @param <E>
+	 *            The class of elements in the list, must extend Comparable
+	 * @param list
+	 *            The list to be sorted, implements IndexedUnsortedList interface 
+	 */
+	private static <E extends Comparable<E>> void quicksort(IndexedUnsortedList<E> list) {
+		// compareTo ordering is just another Comparator
+		quicksort(list, Comparator.<E>naturalOrder());
+	}
 		
 	/**
-	 * Quicksort algorithm to sort objects in a list 
+	 * Sorts objects in a list 
 	 * that implements the IndexedUnsortedList interface,
-	 * using the given Comparator.
+	 * using the given Comparator and the strategy strategyFor picks.
 	 * DO NOT MODIFY THIS METHOD SIGNATURE
 	 * 
 	 * @param <E>
@@ -111,37 +272,297 @@ public class Sort {
 	 *            The Comparator used
 	 */
 	private static <E> void quicksort(IndexedUnsortedList<E> list, Comparator<E> c) {
-		if (list.size() <= 1) {
+		strategyFor(list).sort(list, c);
+	}
+
+	/**
+	 * Introsort with the given pivots: in place for RandomAccess lists and
+	 * of an IUArrayList copy for lists whose get walks nodes.
+	 * IUDoubleLinkedLists are still merge sorted by relinking.
+	 */
+	private static <E> void quicksort(IndexedUnsortedList<E> list, Comparator<E> c, PivotStrategy pivots) {
+		if (list instanceof IUDoubleLinkedList) {
+			((IUDoubleLinkedList<E>)list).sort(c);
+			return;
+		}
+		if (list instanceof RandomAccess) {
+			introsort(list, 0, list.size() - 1, c, pivots, depthLimit(list.size()));
 			return;
 		}
 
-		E pivot = list.removeFirst();
-
-		IndexedUnsortedList<E> left = new WrappedDLL<E>();
-		IndexedUnsortedList<E> right = new WrappedDLL<E>();
+		// the list is only overwritten once the copy is sorted, so a throwing c loses nothing
+		IUArrayList<E> copy = new IUArrayList<E>(Math.max(1, list.size()));
+		for (E element : list) {
+			copy.addToRear(element);
+		}
+		introsort(copy, 0, copy.size() - 1, c, pivots, depthLimit(copy.size()));
+		ListIterator<E> it = list.listIterator();
+		for (E element : copy) {
+			it.next();
+			it.set(element);
+		}
+	}
 
-		while (!list.isEmpty()) {
-			E current = list.removeFirst();
+	/**
+	 * @return partitioning levels allowed before falling back to heapsort,
+	 *         2*floor(log2(n))
+	 */
+	private static int depthLimit(int n) {
+		return 2 * (31 - Integer.numberOfLeadingZeros(Math.max(1, n)));
+	}
 
-			if (c.compare(current, pivot) < 0) {
-				left.addToRear(current);
+	/**
+	 * In-place introsort of list positions low through high, for lists
+	 * with constant-time get and set. Elements are swapped with set, so no
+	 * temporary lists are built. Only the smaller partition is sorted
+	 * recursively and the larger one is sorted by the loop, so the stack
+	 * never grows past O(log n) frames.
+	 * 
+	 * @param <E>
+	 *            The class of elements in the list
+	 * @param list
+	 *            The list to be sorted, should be RandomAccess
+	 * @param low
+	 *            First index of the range to sort
+	 * @param high
+	 *            Last index of the range to sort
+	 * @param c
+	 *            The Comparator used
+	 * @param pivots
+	 *            How each partition picks its pivot
+	 * @param depth
+	 *            Partitioning levels left before heapsorting the range
+	 */
+	private static <E> void introsort(IndexedUnsortedList<E> list, int low, int high, Comparator<E> c,
+			PivotStrategy pivots, int depth) {
+		while (high - low >= INSERTION_SORT_THRESHOLD) {
+			if (depth == 0) {
+				// pivots keep landing near the ends; quicksort is going quadratic
+				heapsort(list, low, high, c);
+				return;
+			}
+			depth--;
+			int split = partition(list, low, high, c, pivots);
+			if (split - low < high - split) {
+				introsort(list, low, split, c, pivots, depth);
+				low = split + 1;
 			} else {
-				right.addToRear(current);
+				introsort(list, split + 1, high, c, pivots, depth);
+				high = split;
 			}
 		}
+		insertionSort(list, low, high, c);
+	}
 
-		quicksort(left, c);
-		quicksort(right, c);
+	/**
+	 * Hoare partition of positions low through high around the element
+	 * chosen by pivots, which is first moved to low so the split can't
+	 * land on high. Afterwards no element of low..split is greater than
+	 * the pivot and no element of split+1..high is less than it.
+	 * 
+	 * @return split, with low <= split < high
+	 */
+	private static <E> int partition(IndexedUnsortedList<E> list, int low, int high, Comparator<E> c,
+			PivotStrategy pivots) {
+		swap(list, low, pivots.choose(list, low, high, c));
+		E pivot = list.get(low);
+		int i = low - 1;
+		int j = high + 1;
+		while (true) {
+			do {
+				i++;
+			} while (c.compare(list.get(i), pivot) < 0);
+			do {
+				j--;
+			} while (c.compare(list.get(j), pivot) > 0);
+			if (i >= j) {
+				return j;
+			}
+			swap(list, i, j);
+		}
+	}
 
-		while (!left.isEmpty()) {
-			list.addToRear(left.removeFirst());
+	/**
+	 * Insertion sort of positions low through high, shifting larger
+	 * elements up with set instead of swapping
+	 */
+	private static <E> void insertionSort(IndexedUnsortedList<E> list, int low, int high, Comparator<E> c) {
+		for (int i = low + 1; i <= high; i++) {
+			E current = list.get(i);
+			int j = i - 1;
+			while (j >= low && c.compare(list.get(j), current) > 0) {
+				list.set(j + 1, list.get(j));
+				j--;
+			}
+			if (j + 1 != i) {
+				list.set(j + 1, current);
+			}
 		}
-		list.addToRear(pivot);
-		
-		while(!right.isEmpty()) {
-			list.addToRear(right.removeFirst());
+	}
+
+	/**
+	 * Heapsort of positions low through high: O(n log n) for every input
+	 * and no extra memory, used once introsort runs out of depth
+	 */
+	private static <E> void heapsort(IndexedUnsortedList<E> list, int low, int high, Comparator<E> c) {
+		int n = high - low + 1;
+		for (int root = n / 2 - 1; root >= 0; root--) {
+			siftDown(list, low, root, n, c);
+		}
+		for (int end = n - 1; end > 0; end--) {
+			swap(list, low, low + end);
+			siftDown(list, low, 0, end, c);
+		}
+	}
+
+	/**
+	 * Moves the element at heap position root down until it is no smaller
+	 * than its children, in the max-heap of n elements starting at list
+	 * position low
+	 */
+	private static <E> void siftDown(IndexedUnsortedList<E> list, int low, int root, int n, Comparator<E> c) {
+		E element = list.get(low + root);
+		int child;
+		while ((child = 2 * root + 1) < n) {
+			if (child + 1 < n && c.compare(list.get(low + child + 1), list.get(low + child)) > 0) {
+				child++;
+			}
+			if (c.compare(list.get(low + child), element) <= 0) {
+				break;
+			}
+			list.set(low + root, list.get(low + child));
+			root = child;
+		}
+		list.set(low + root, element);
+	}
+
+	/**
+	 * Exchanges the elements at two positions of list
+	 */
+	private static <E> void swap(IndexedUnsortedList<E> list, int i, int j) {
+		E temp = list.get(i);
+		list.set(i, list.get(j));
+		list.set(j, temp);
+	}
+
+	/**
+	 * Stable merge sort of positions low through high - 1 of an array.
+	 * The halves are sorted into the other array by forked subtasks and
+	 * then merged back, so each level swaps the roles of the two arrays
+	 * instead of copying.
+	 */
+	private static class MergeSortTask<E> extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final Object[] elements, work;
+		private final int low, high;
+		private final boolean intoWork; // leave the sorted range in work instead of elements
+		private final Comparator<E> c;
+
+		MergeSortTask(Object[] elements, Object[] work, int low, int high, boolean intoWork, Comparator<E> c) {
+			this.elements = elements;
+			this.work = work;
+			this.low = low;
+			this.high = high;
+			this.intoWork = intoWork;
+			this.c = c;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		protected void compute() {
+			Object[] target = intoWork ? work : elements;
+			if (high - low <= PARALLEL_THRESHOLD) {
+				if (intoWork) {
+					System.arraycopy(elements, low, work, low, high - low);
+				}
+				// Arrays.sort on objects is a stable merge sort
+				Arrays.sort(target, low, high, (Comparator<Object>)c);
+				return;
+			}
+			int middle = low + (high - low) / 2;
+			invokeAll(new MergeSortTask<E>(elements, work, low, middle, !intoWork, c),
+					new MergeSortTask<E>(elements, work, middle, high, !intoWork, c));
+			Object[] source = intoWork ? elements : work;
+			new MergeTask<E>(source, target, low, middle, middle, high, low, c).compute();
+		}
+	}
+
+	/**
+	 * Stable merge of two sorted runs of source into target starting at
+	 * out. Large merges split the longer run at its middle, find where
+	 * that element falls in the shorter run by binary search, and merge
+	 * the two lower and two upper parts in parallel.
+	 */
+	private static class MergeTask<E> extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final Object[] source, target;
+		private final int low1, high1, low2, high2, out;
+		private final Comparator<E> c;
+
+		MergeTask(Object[] source, Object[] target, int low1, int high1, int low2, int high2, int out,
+				Comparator<E> c) {
+			this.source = source;
+			this.target = target;
+			this.low1 = low1;
+			this.high1 = high1;
+			this.low2 = low2;
+			this.high2 = high2;
+			this.out = out;
+			this.c = c;
+		}
+
+		@Override
+		protected void compute() {
+			int length1 = high1 - low1;
+			int length2 = high2 - low2;
+			if (length1 + length2 <= PARALLEL_THRESHOLD) {
+				merge();
+				return;
+			}
+			int split1, split2;
+			if (length1 >= length2) {
+				// first run's elements win ties, so second run elements equal to the key go after it
+				split1 = low1 + length1 / 2;
+				split2 = search(low2, high2, Sort.<E>element(source, split1), false);
+			} else {
+				split2 = low2 + length2 / 2;
+				split1 = search(low1, high1, Sort.<E>element(source, split2), true);
+			}
+			int upperOut = out + (split1 - low1) + (split2 - low2);
+			invokeAll(new MergeTask<E>(source, target, low1, split1, low2, split2, out, c),
+					new MergeTask<E>(source, target, split1, high1, split2, high2, upperOut, c));
+		}
+
+		/**
+		 * @param afterEqual whether elements equal to key count as before it
+		 * @return first index in low..high - 1 whose element goes after key, or high
+		 */
+		private int search(int low, int high, E key, boolean afterEqual) {
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				int order = c.compare(Sort.<E>element(source, middle), key);
+				if (order < 0 || (afterEqual && order == 0)) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			return low;
+		}
+
+		/** Sequential merge, taking from the first run on ties */
+		private void merge() {
+			int i = low1, j = low2, k = out;
+			while (i < high1 && j < high2) {
+				if (c.compare(Sort.<E>element(source, j), Sort.<E>element(source, i)) < 0) {
+					target[k++] = source[j++];
+				} else {
+					target[k++] = source[i++];
+				}
+			}
+			System.arraycopy(source, i, target, k, high1 - i);
+			System.arraycopy(source, j, target, k + high1 - i, high2 - j);
 		}
-		
 	}
 }
 		
@@ -0,0 +1,100 @@
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Timings for Sort.parallelSort, run like ListTester. Sorts the same
+ * random IUArrayList of Integers with Sort.sort and then with
+ * parallelSort on pools of 1, 2, 4, ... threads up to the number of
+ * available processors, and prints the best time of several runs and
+ * the ratio to a one-thread pool for each. Any speedup has to be
+ * measured on a multi-core machine; on one core the table only shows
+ * the cost of copying the list out and back.
+ *
+ * @see Sort
+ */
+public class SortBenchmark {
+	private static final int DEFAULT_SIZE = 2000000;
+	private static final int RUNS = 5;
+	private static final long SEED = 221;
+
+	/**
+	 * Valid command line args include:
+	 *  a number : elements to sort, default 2000000
+	 * @param args command line args
+	 */
+	public static void main(String[] args) {
+		int size = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+		int processors = Runtime.getRuntime().availableProcessors();
+		System.out.println("Sorting " + size + " Integers, " + processors + " processors, best of " + RUNS + " runs\n");
+
+		System.out.printf("%-16s\t%d ms\n\n", "Sort.sort", bestMillis(size, null));
+
+		List<Integer> threadCounts = new ArrayList<Integer>();
+		for (int threads = 1; threads < processors; threads *= 2) {
+			threadCounts.add(threads);
+		}
+		threadCounts.add(processors);
+
+		System.out.println("threads\tms\tspeedup");
+		long oneThread = 0;
+		for (int threads : threadCounts) {
+			ForkJoinPool pool = new ForkJoinPool(threads);
+			long millis = bestMillis(size, pool);
+			pool.shutdown();
+			if (threads == 1) {
+				oneThread = millis;
+			}
+			System.out.printf("%d\t%d\t%.2f\n", threads, millis, (double)oneThread / Math.max(1, millis));
+		}
+		System.out.println();
+	}
+
+	/**
+	 * Times RUNS sorts of the same random list
+	 * @param size elements to sort
+	 * @param pool pool for parallelSort, null to time Sort.sort
+	 * @return fastest run in milliseconds
+	 */
+	private static long bestMillis(int size, ForkJoinPool pool) {
+		long best = Long.MAX_VALUE;
+		for (int run = 0; run < RUNS; run++) {
+			IndexedUnsortedList<Integer> list = randomList(size);
+			long start = System.nanoTime();
+			if (pool == null) {
+				Sort.sort(list);
+			} else {
+				Sort.parallelSort(list, Comparator.<Integer>naturalOrder(), pool);
+			}
+			best = Math.min(best, (System.nanoTime() - start) / 1000000);
+			checkSorted(list);
+		}
+		return best;
+	}
+
+	/**
+	 * @param size elements in the list
+	 * @return a list of size random Integers, the same each call
+	 */
+	private static IndexedUnsortedList<Integer> randomList(int size) {
+		Random random = new Random(SEED);
+		IndexedUnsortedList<Integer> list = new IUArrayList<Integer>(size);
+		for (int i = 0; i < size; i++) {
+			list.addToRear(random.nextInt());
+		}
+		return list;
+	}
+
+	/**
+	 * @param list list that should now be in ascending order
+	 * @throws IllegalStateException if it isn't
+	 */
+	private static void checkSorted(IndexedUnsortedList<Integer> list) {
+		Integer previous = null;
+		for (Integer element : list) {
+			if (previous != null && previous > element) {
+				throw new IllegalStateException("list not sorted");
+			}
+			previous = element;
+		}
+	}
+}
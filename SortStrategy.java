@@ -0,0 +1,99 @@
+import java.util.Comparator;
+import java.util.RandomAccess;
+
+/**
+ * A way of sorting an IndexedUnsortedList. Sort.strategyFor picks the
+ * fastest one a list supports; callers can force another with
+ * Sort.sortWithStrategy(list, c, strategy).
+ *
+ * @see Sort
+ */
+public enum SortStrategy {
+	/**
+	 * Stable merge sort that relinks the nodes of an IUDoubleLinkedList,
+	 * with no copying and O(1) extra memory
+	 */
+	RELINK {
+		@Override
+		public boolean supports(IndexedUnsortedList<?> list) {
+			return list instanceof IUDoubleLinkedList;
+		}
+
+		@Override
+		public <E> void sort(IndexedUnsortedList<E> list, Comparator<E> c) {
+			requireSupported(this, list);
+			((IUDoubleLinkedList<E>)list).sort(c);
+		}
+	},
+
+	/** Arrays.sort run directly on the backing array of an IUArrayList */
+	BACKING_ARRAY {
+		@Override
+		public boolean supports(IndexedUnsortedList<?> list) {
+			return list instanceof IUArrayList;
+		}
+
+		@Override
+		public <E> void sort(IndexedUnsortedList<E> list, Comparator<E> c) {
+			requireSupported(this, list);
+			((IUArrayList<E>)list).sort(c);
+		}
+	},
+
+	/**
+	 * Introsort through get and set on a RandomAccess list, with O(log n)
+	 * extra memory; the choice for lists too big to copy, like
+	 * MappedIUArrayList
+	 */
+	IN_PLACE {
+		@Override
+		public boolean supports(IndexedUnsortedList<?> list) {
+			return list instanceof RandomAccess;
+		}
+
+		@Override
+		public <E> void sort(IndexedUnsortedList<E> list, Comparator<E> c) {
+			requireSupported(this, list);
+			Sort.inPlaceSort(list, c);
+		}
+	},
+
+	/**
+	 * Copies the list into an array, sorts the array with Arrays.sort and
+	 * writes the result back: O(n) extra memory, works on any list
+	 */
+	COPY {
+		@Override
+		public boolean supports(IndexedUnsortedList<?> list) {
+			return true;
+		}
+
+		@Override
+		public <E> void sort(IndexedUnsortedList<E> list, Comparator<E> c) {
+			Sort.copySort(list, c);
+		}
+	};
+
+	/**
+	 * @param list list to be sorted
+	 * @return true if this strategy can sort list
+	 */
+	public abstract boolean supports(IndexedUnsortedList<?> list);
+
+	/**
+	 * Sorts list using the given Comparator
+	 * @param list list to sort
+	 * @param c ordering to sort by
+	 * @throws IllegalArgumentException if this strategy doesn't support list
+	 */
+	public abstract <E> void sort(IndexedUnsortedList<E> list, Comparator<E> c);
+
+	/**
+	 * @throws IllegalArgumentException if strategy doesn't support list
+	 */
+	public static void requireSupported(SortStrategy strategy, IndexedUnsortedList<?> list) {
+		if (!strategy.supports(list)) {
+			throw new IllegalArgumentException("cannot sort " + list.getClass().getSimpleName() + " this way");
+		}
+	}
+}
@@ -0,0 +1,464 @@
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe decorator for any IndexedUnsortedList. Write methods run
+ * under the write lock of a StampedLock. Many lists write during reads (a
+ * cached finger, a search offset, a lazily rebuilt index), so by default
+ * reads take the write lock too. A list whose reads are known to be
+ * side-effect free can be wrapped with shared reads: get, first, contains
+ * and the other reads then run under an optimistic read, which takes no
+ * lock, and are repeated under the read lock only if a write got in.
+ * Readers never serialize behind one another.
+ *
+ * size() and isEmpty() don't call the wrapped list at all: the size is
+ * copied after every write and read back under an optimistic read, which
+ * takes no lock.
+ *
+ * Iterators work on a snapshot copied under the read lock, so iterating
+ * never holds a lock. They stay fail-fast: any write to the list through
+ * another path makes the iterator throw ConcurrentModificationException,
+ * and its own remove, set and add are applied to the list under the
+ * write lock.
+ *
+ * Lock contention is counted in LongAdders and exposed through the
+ * getters below.
+ *
+ * @param <E> type to store
+ */
+public class StampedLockList<E> implements IndexedUnsortedList<E> {
+	private final IndexedUnsortedList<E> list;
+	private final StampedLock lock;
+	private final boolean sharedReads; // reads of list may run together under the read lock
+	private volatile int modCount; // writes completed, only changed under the write lock
+	private int size; // list.size() after the last write, only changed under the write lock
+
+	private final LongAdder optimisticReads = new LongAdder();
+	private final LongAdder optimisticFailures = new LongAdder();
+	private final LongAdder readLockWaits = new LongAdder();
+	private final LongAdder writeLockWaits = new LongAdder();
+	private final LongAdder lockWaitNanos = new LongAdder();
+
+	/**
+	 * Wraps list, running its reads one at a time like its writes; all
+	 * later access must go through the wrapper
+	 * @param list list to protect
+	 */
+	public StampedLockList(IndexedUnsortedList<E> list) {
+		this(list, false);
+	}
+
+	/**
+	 * Wraps list; all later access must go through the wrapper
+	 * @param list list to protect
+	 * @param sharedReads true only if reads of list never change its state,
+	 *        so they can run optimistically or together under the read
+	 *        lock. IUDoubleLinkedList, IUUnrolledLinkedList and IUArrayList
+	 *        with a position index all write during reads and need false.
+	 */
+	public StampedLockList(IndexedUnsortedList<E> list, boolean sharedReads) {
+		this.list = Objects.requireNonNull(list);
+		this.sharedReads = sharedReads;
+		lock = new StampedLock();
+		modCount = 0;
+		size = list.size();
+	}
+
+	/**
+	 * Acquires the lock a read of the wrapped list needs, counting the
+	 * wait if it was held
+	 * @return stamp for unlock
+	 */
+	private long readLock() {
+		long stamp = sharedReads ? lock.tryReadLock() : lock.tryWriteLock();
+		if (stamp == 0L) {
+			readLockWaits.increment();
+			long waitStart = System.nanoTime();
+			stamp = sharedReads ? lock.readLock() : lock.writeLock();
+			lockWaitNanos.add(System.nanoTime() - waitStart);
+		}
+		return stamp;
+	}
+
+	/**
+	 * Runs a read of the wrapped list. With shared reads it is first tried
+	 * under an optimistic read; a result, or exception, from a read that
+	 * raced a write is thrown away and the read repeated under the lock.
+	 * @param reader read to run against the wrapped list
+	 * @return the read's result
+	 */
+	private <T> T read(Supplier<T> reader) {
+		if (sharedReads) {
+			long stamp = lock.tryOptimisticRead();
+			if (stamp != 0L) {
+				try {
+					T result = reader.get();
+					if (lock.validate(stamp)) {
+						optimisticReads.increment();
+						return result;
+					}
+				} catch (RuntimeException e) {
+					// thrown by a read of a consistent list, so it's the real answer
+					if (lock.validate(stamp)) {
+						optimisticReads.increment();
+						throw e;
+					}
+				}
+			}
+			optimisticFailures.increment();
+		}
+
+		long stamp = readLock();
+		try {
+			return reader.get();
+		} finally {
+			lock.unlock(stamp);
+		}
+	}
+
+	/**
+	 * Acquires the write lock, counting the wait if it was held
+	 * @return stamp for unlockWrite
+	 */
+	private long writeLock() {
+		long stamp = lock.tryWriteLock();
+		if (stamp == 0L) {
+			writeLockWaits.increment();
+			long waitStart = System.nanoTime();
+			stamp = lock.writeLock();
+			lockWaitNanos.add(System.nanoTime() - waitStart);
+		}
+		return stamp;
+	}
+
+	/**
+	 * Runs a write under the write lock, counting it only if it succeeds
+	 * @param writer write to run against the wrapped list
+	 * @return the write's result
+	 */
+	private <T> T write(Supplier<T> writer) {
+		long stamp = writeLock();
+		try {
+			T result = writer.get();
+			modCount++;
+			return result;
+		} finally {
+			size = list.size();
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Runs a write that returns nothing under the write lock
+	 * @param writer write to run against the wrapped list
+	 */
+	private void write(Runnable writer) {
+		long stamp = writeLock();
+		try {
+			writer.run();
+			modCount++;
+		} finally {
+			size = list.size();
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * @return reads that completed without taking a lock: size() and
+	 *         isEmpty() always, others only with shared reads
+	 */
+	public long getOptimisticReads() {
+		return optimisticReads.sum();
+	}
+
+	/**
+	 * @return optimistic reads that raced a write and were repeated under the lock
+	 */
+	public long getOptimisticFailures() {
+		return optimisticFailures.sum();
+	}
+
+	/**
+	 * @return reads of the wrapped list that had to wait for the lock
+	 */
+	public long getReadLockWaits() {
+		return readLockWaits.sum();
+	}
+
+	/**
+	 * @return write lock acquisitions that had to wait for readers or another writer
+	 */
+	public long getWriteLockWaits() {
+		return writeLockWaits.sum();
+	}
+
+	/**
+	 * @return total nanoseconds spent waiting for the read or write lock
+	 */
+	public long getLockWaitNanos() {
+		return lockWaitNanos.sum();
+	}
+
+	@Override
+	public void addToFront(E element) {
+		write(() -> list.addToFront(element));
+	}
+
+	@Override
+	public void addToRear(E element) {
+		write(() -> list.addToRear(element));
+	}
+
+	@Override
+	public void add(E element) {
+		write(() -> list.add(element));
+	}
+
+	@Override
+	public void addAfter(E element, E target) {
+		write(() -> list.addAfter(element, target));
+	}
+
+	@Override
+	public void add(int index, E element) {
+		write(() -> list.add(index, element));
+	}
+
+	@Override
+	public E removeFirst() {
+		return write(() -> list.removeFirst());
+	}
+
+	@Override
+	public E removeLast() {
+		return write(() -> list.removeLast());
+	}
+
+	@Override
+	public E remove(E element) {
+		return write(() -> list.remove(element));
+	}
+
+	@Override
+	public E remove(int index) {
+		return write(() -> list.remove(index));
+	}
+
+	@Override
+	public void set(int index, E element) {
+		write(() -> list.set(index, element));
+	}
+
+	@Override
+	public E get(int index) {
+		return read(() -> list.get(index));
+	}
+
+	@Override
+	public int indexOf(E element) {
+		return read(() -> list.indexOf(element));
+	}
+
+	@Override
+	public E first() {
+		return read(() -> list.first());
+	}
+
+	@Override
+	public E last() {
+		return read(() -> list.last());
+	}
+
+	@Override
+	public boolean contains(E target) {
+		return read(() -> list.contains(target));
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	@Override
+	public int size() {
+		long stamp = lock.tryOptimisticRead();
+		int result = size;
+		if (stamp != 0L && lock.validate(stamp)) {
+			optimisticReads.increment();
+			return result;
+		}
+		optimisticFailures.increment();
+
+		stamp = lock.readLock();
+		try {
+			return size;
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return read(() -> list.toString());
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return new SnapshotListIterator(0);
+	}
+
+	@Override
+	public ListIterator<E> listIterator() {
+		return new SnapshotListIterator(0);
+	}
+
+	@Override
+	public ListIterator<E> listIterator(int startingIndex) {
+		return new SnapshotListIterator(startingIndex);
+	}
+
+	/**
+	 * ListIterator over a copy of the list taken when it was created.
+	 * Its own changes go to both the copy and the list; any other write
+	 * to the list makes it throw ConcurrentModificationException.
+	 */
+	private class SnapshotListIterator implements ListIterator<E> {
+		private final ArrayList<E> snapshot;
+		private int nextIndex;
+		private int lastReturned; // index of last element returned by next() or previous()
+		private int iterModCount;
+
+		/**
+		 * copies the list and starts the iterator at the specified index
+		 * @param startingIndex index at which to start the iterator
+		 */
+		public SnapshotListIterator(int startingIndex) {
+			long stamp = readLock();
+			try {
+				if (startingIndex < 0 || startingIndex > list.size()) {
+					throw new IndexOutOfBoundsException();
+				}
+				snapshot = new ArrayList<E>(list.size());
+				for (E element : list) {
+					snapshot.add(element);
+				}
+				iterModCount = modCount;
+			} finally {
+				lock.unlock(stamp);
+			}
+			nextIndex = startingIndex;
+			lastReturned = -1;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex < snapshot.size();
+		}
+
+		@Override
+		public E next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = nextIndex++;
+			return snapshot.get(lastReturned);
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex > 0;
+		}
+
+		@Override
+		public E previous() {
+			if (!hasPrevious()) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = --nextIndex;
+			return snapshot.get(lastReturned);
+		}
+
+		@Override
+		public int nextIndex() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex;
+		}
+
+		@Override
+		public int previousIndex() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex - 1;
+		}
+
+		@Override
+		public void remove() {
+			long stamp = writeLock();
+			try {
+				if (iterModCount != modCount) {
+					throw new ConcurrentModificationException();
+				}
+				if (lastReturned == -1) {
+					throw new IllegalStateException();
+				}
+				list.remove(lastReturned);
+				snapshot.remove(lastReturned);
+				if (lastReturned < nextIndex) {
+					nextIndex--;
+				}
+				lastReturned = -1;
+				iterModCount = ++modCount;
+			} finally {
+				size = list.size();
+				lock.unlockWrite(stamp);
+			}
+		}
+
+		@Override
+		public void set(E e) {
+			long stamp = writeLock();
+			try {
+				if (iterModCount != modCount) {
+					throw new ConcurrentModificationException();
+				}
+				if (lastReturned == -1) {
+					throw new IllegalStateException();
+				}
+				list.set(lastReturned, e);
+				snapshot.set(lastReturned, e);
+				iterModCount = ++modCount;
+			} finally {
+				size = list.size();
+				lock.unlockWrite(stamp);
+			}
+		}
+
+		@Override
+		public void add(E e) {
+			long stamp = writeLock();
+			try {
+				if (iterModCount != modCount) {
+					throw new ConcurrentModificationException();
+				}
+				list.add(nextIndex, e);
+				snapshot.add(nextIndex++, e);
+				lastReturned = -1;
+				iterModCount = ++modCount;
+			} finally {
+				size = list.size();
+				lock.unlockWrite(stamp);
+			}
+		}
+	}
+}
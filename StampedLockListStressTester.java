@@ -0,0 +1,346 @@
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Multi-threaded stress test for StampedLockList, run like ListTester.
+ * Each test wraps one kind of list whose reads are not side-effect free
+ * (a cached finger, a shared search offset, a lazily rebuilt position
+ * index) and runs readers against writers. The list holds the run
+ * 0, 1, ..., RUN - 1, and each writer adds one -1 at the front or right
+ * after the run and then removes the first -1, so at any moment there are
+ * at most as many -1s as writers, before or after the run. Every read has
+ * to fit that shape:
+ *  - get(i) is -1 or within writers below i; indexOf(v) is within writers
+ *    above v; contains(v) is true and first() is -1 or 0
+ *  - snapshot iterators see -1s, then the whole run, then -1s
+ *  - no read throws, and the list ends as it began
+ * With shared reads, readers running alone must never take the lock, and
+ * readers racing writers must still complete most reads optimistically.
+ * A last test wraps a list that yields inside every call and counts calls
+ * that overlap, which catches a read let into the list alongside another
+ * call even on a single core.
+ *
+ * @see StampedLockList
+ */
+public class StampedLockListStressTester {
+	private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+	private static final int RUN = 1000;
+	private static final int READS_PER_THREAD = 200000;
+	private static final int WRITES_PER_THREAD = 50000;
+	private static final int SNAPSHOTS_PER_THREAD = 200;
+
+	//tracking number of tests and test results
+	private int passes = 0;
+	private int failures = 0;
+	private int totalRun = 0;
+
+	/**
+	 * @param args not used
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		StampedLockListStressTester tester = new StampedLockListStressTester();
+		tester.runTests();
+	}
+
+	/** Print test results in a consistent format
+	 * @param testDesc description of the test
+	 * @param result indicates if the test passed or failed
+	 */
+	private void printTest(String testDesc, boolean result) {
+		totalRun++;
+		if (result) { passes++; }
+		else { failures++; }
+		System.out.printf("%-46s\t%s\n", testDesc, (result ? "   PASS" : "***FAIL***"));
+	}
+
+	/** Print a final summary */
+	private void printFinalSummary() {
+		String verdict = String.format("\nTotal Tests Run: %d,  Passed: %d (%.1f%%),  Failed: %d\n",
+				totalRun, passes, passes*100.0/totalRun, failures);
+		String line = "";
+		for (int i = 0; i < verdict.length(); i++) {
+			line += "-";
+		}
+		System.out.println(line);
+		System.out.println(verdict);
+	}
+
+	/** Run all tests */
+	private void runTests() throws InterruptedException {
+		System.out.println("Stress testing StampedLockList with " + THREADS + " threads\n");
+		printTest("double linked list (cached finger)", testReadersAndWriters(() -> new IUDoubleLinkedList<Integer>()));
+		printTest("unrolled linked list (search offset)", testReadersAndWriters(() -> new IUUnrolledLinkedList<Integer>(8)));
+		printTest("array list (lazy position index)", testReadersAndWriters(() -> {
+			IUArrayList<Integer> list = new IUArrayList<Integer>();
+			list.enablePositionIndex();
+			return list;
+		}));
+		StampedLockList<Integer> shared = wrapRun(new IUArrayList<Integer>(), true);
+		boolean sharedConsistent = testReadersAndWriters(shared);
+		System.out.println("  " + shared.getOptimisticReads() + " optimistic reads, "
+				+ shared.getOptimisticFailures() + " repeated under the lock");
+		printTest("shared reads, array list", sharedConsistent && shared.getOptimisticReads() > 0);
+		printTest("shared reads without writers take no lock", testOptimisticReads());
+		OverlapCountingList overlapCounting = new OverlapCountingList();
+		boolean consistent = testReadersAndWriters(() -> overlapCounting);
+		if (overlapCounting.overlaps.get() != 0) {
+			System.out.println("  " + overlapCounting.overlaps.get() + " calls overlapped another");
+		}
+		printTest("no call overlaps another", consistent && overlapCounting.overlaps.get() == 0);
+		printFinalSummary();
+	}
+
+	/**
+	 * Runs every task on its own thread, starting them together
+	 * @param tasks work for each thread
+	 */
+	private static void runTogether(List<Runnable> tasks) throws InterruptedException {
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> threads = new ArrayList<Thread>();
+		for (Runnable task : tasks) {
+			Thread thread = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				task.run();
+			});
+			thread.start();
+			threads.add(thread);
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+	}
+
+	/**
+	 * Readers and writers share a StampedLockList with exclusive reads
+	 * @param newList supplies the list to wrap
+	 */
+	private boolean testReadersAndWriters(Supplier<IndexedUnsortedList<Integer>> newList) throws InterruptedException {
+		return testReadersAndWriters(wrapRun(newList.get(), false));
+	}
+
+	/**
+	 * Fills inner with the run and wraps it
+	 * @param inner empty list to wrap
+	 * @param sharedReads passed to the StampedLockList constructor
+	 * @return the wrapper
+	 */
+	private static StampedLockList<Integer> wrapRun(IndexedUnsortedList<Integer> inner, boolean sharedReads) {
+		for (int i = 0; i < RUN; i++) {
+			inner.addToRear(i);
+		}
+		return new StampedLockList<Integer>(inner, sharedReads);
+	}
+
+	/**
+	 * Only readers share a list with shared reads, so every get, indexOf,
+	 * contains and first must complete optimistically, without a lock
+	 */
+	private boolean testOptimisticReads() throws InterruptedException {
+		StampedLockList<Integer> list = wrapRun(new IUArrayList<Integer>(), true);
+		AtomicReference<String> problem = new AtomicReference<String>();
+		List<Runnable> tasks = new ArrayList<Runnable>();
+		for (int r = 0; r < THREADS; r++) {
+			int seed = r;
+			tasks.add(() -> {
+				Random random = new Random(seed);
+				for (int i = 0; i < READS_PER_THREAD; i++) {
+					int index = random.nextInt(RUN);
+					if (list.get(index) != index || list.indexOf(index) != index
+							|| !list.contains(index) || list.first() != 0) {
+						problem.compareAndSet(null, "wrong answer reading " + index);
+					}
+				}
+			});
+		}
+		runTogether(tasks);
+
+		long expected = 4L * THREADS * READS_PER_THREAD;
+		if (list.getOptimisticReads() != expected || list.getOptimisticFailures() != 0 || list.getReadLockWaits() != 0) {
+			problem.compareAndSet(null, list.getOptimisticReads() + " of " + expected + " reads optimistic, "
+					+ list.getOptimisticFailures() + " failed");
+		}
+		if (problem.get() != null) {
+			System.out.println("  " + problem.get());
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * A quarter of the threads write and the rest read and take snapshot
+	 * iterators. Each writer adds a -1 before it removes one, so no
+	 * element of the run is ever removed. The first wrong answer or
+	 * unexpected Throwable is reported.
+	 * @param list wrapper around the run
+	 */
+	private boolean testReadersAndWriters(StampedLockList<Integer> list) throws InterruptedException {
+		AtomicReference<String> problem = new AtomicReference<String>();
+		int writers = Math.max(1, THREADS / 4);
+		List<Runnable> tasks = new ArrayList<Runnable>();
+
+		for (int w = 0; w < writers; w++) {
+			int seed = w;
+			tasks.add(() -> {
+				Random random = new Random(seed);
+				try {
+					for (int i = 0; i < WRITES_PER_THREAD && problem.get() == null; i++) {
+						if (random.nextBoolean()) {
+							list.add(0, -1);
+						} else {
+							list.addAfter(-1, RUN - 1);
+						}
+						list.remove(Integer.valueOf(-1));
+					}
+				} catch (Throwable t) {
+					problem.compareAndSet(null, "writer threw " + t);
+				}
+			});
+		}
+		for (int r = writers; r < THREADS; r++) {
+			int seed = r;
+			tasks.add(() -> {
+				Random random = new Random(seed);
+				try {
+					for (int i = 0; i < READS_PER_THREAD && problem.get() == null; i++) {
+						int index = random.nextInt(RUN);
+						int got = list.get(index);
+						if (got != -1 && (got > index || got < index - writers)) {
+							problem.compareAndSet(null, "get(" + index + ") returned " + got);
+						}
+						int found = list.indexOf(index);
+						if (found < index || found > index + writers) {
+							problem.compareAndSet(null, "indexOf(" + index + ") returned " + found);
+						}
+						int first = list.first();
+						if (!list.contains(index) || (first != -1 && first != 0) || list.size() < RUN) {
+							problem.compareAndSet(null, "contains, first or size wrong");
+						}
+						if (i % (READS_PER_THREAD / SNAPSHOTS_PER_THREAD) == 0) {
+							checkSnapshot(list, problem);
+						}
+					}
+				} catch (Throwable t) {
+					problem.compareAndSet(null, "reader threw " + t);
+				}
+			});
+		}
+		runTogether(tasks);
+
+		if (problem.get() == null) {
+			checkSnapshot(list, problem);
+			if (list.size() != RUN || list.first() != 0) {
+				problem.compareAndSet(null, "ended with size " + list.size());
+			}
+		}
+		if (problem.get() != null) {
+			System.out.println("  " + problem.get());
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Array list that yields the processor in the middle of the calls the
+	 * tests make and counts calls that started while another was running
+	 */
+	private static class OverlapCountingList extends IUArrayList<Integer> {
+		private final AtomicInteger running = new AtomicInteger();
+		private final AtomicInteger overlaps = new AtomicInteger();
+		private final ThreadLocal<Boolean> inCall = ThreadLocal.withInitial(() -> false);
+
+		/**
+		 * Runs a call of the superclass, yielding partway through. Calls
+		 * the superclass makes to this list from inside it aren't counted.
+		 * @param call the call
+		 * @return its result
+		 */
+		private <T> T counted(Supplier<T> call) {
+			if (inCall.get()) {
+				return call.get();
+			}
+			if (running.getAndIncrement() != 0) {
+				overlaps.incrementAndGet();
+			}
+			inCall.set(true);
+			try {
+				Thread.yield();
+				return call.get();
+			} finally {
+				inCall.set(false);
+				running.decrementAndGet();
+			}
+		}
+
+		@Override
+		public void add(int index, Integer element) {
+			counted(() -> { super.add(index, element); return null; });
+		}
+
+		@Override
+		public void addAfter(Integer element, Integer target) {
+			counted(() -> { super.addAfter(element, target); return null; });
+		}
+
+		@Override
+		public Integer remove(Integer element) {
+			return counted(() -> super.remove(element));
+		}
+
+		@Override
+		public Integer get(int index) {
+			return counted(() -> super.get(index));
+		}
+
+		@Override
+		public int indexOf(Integer element) {
+			return counted(() -> super.indexOf(element));
+		}
+
+		@Override
+		public boolean contains(Integer target) {
+			return counted(() -> super.contains(target));
+		}
+
+		@Override
+		public Integer first() {
+			return counted(() -> super.first());
+		}
+	}
+
+	/**
+	 * Checks that a snapshot iterator sees -1s, the whole run and then only
+	 * -1s, up to the point where a write makes it fail fast
+	 * @param list list to iterate
+	 * @param problem set to a description of the first mismatch
+	 */
+	private static void checkSnapshot(StampedLockList<Integer> list, AtomicReference<String> problem) {
+		Iterator<Integer> it = list.iterator();
+		int expected = 0; // next element of the run, RUN once it is complete
+		try {
+			while (it.hasNext()) {
+				int element = it.next();
+				if (element == expected) {
+					expected++;
+				} else if (element != -1 || (expected > 0 && expected < RUN)) {
+					problem.compareAndSet(null, "snapshot had " + element + " where " + expected + " belonged");
+					return;
+				}
+			}
+		} catch (ConcurrentModificationException e) {
+			// a writer got in; what was seen so far was still checked
+			return;
+		}
+		if (expected < RUN) {
+			problem.compareAndSet(null, "snapshot ended after " + expected + " elements of the run");
+		}
+	}
+}